@@ -0,0 +1,44 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.RestTddApplication;
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 벤치마크용 애플리케이션. bench 프로필(메모리 H2)과 profiles 로 띄우고 글 postCount 개를 추가로 채운다.
+public class BenchmarkApp {
+
+    public static ConfigurableApplicationContext start(int postCount, String... profiles) {
+
+        // application.yml 의 기본 프로필(dev)은 쓰지 않는다. 커맨드라인 인자라야 application.yml 보다 우선한다.
+        String activeProfiles = Stream.concat(Stream.of("bench"), Arrays.stream(profiles))
+                .collect(Collectors.joining(","));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RestTddApplication.class)
+                .run("--spring.profiles.active=" + activeProfiles);
+
+        seed(context, postCount);
+
+        return context;
+    }
+
+    private static void seed(ConfigurableApplicationContext context, int postCount) {
+
+        MemberService memberService = context.getBean(MemberService.class);
+        PostService postService = context.getBean(PostService.class);
+
+        Member user1 = memberService.findByUsername("user1").get();
+        Member user2 = memberService.findByUsername("user2").get();
+
+        for (int i = 1; i <= postCount; i++) {
+            Member author = i % 2 == 0 ? user1 : user2;
+            postService.write(author, "bench title " + i, "bench content " + i, true, i % 10 != 0);
+        }
+    }
+}
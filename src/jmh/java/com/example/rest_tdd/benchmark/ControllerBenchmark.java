@@ -0,0 +1,54 @@
+package com.example.rest_tdd.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 디스패처부터 응답 직렬화까지 요청 1건의 비용. (응답 상태 설정 방식 등 요청 단위 오버헤드 비교용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerBenchmark {
+
+    @Param({"100"})
+    int postCount;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(postCount);
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getItem() throws Exception {
+        return mvc.perform(get("/api/v1/posts/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getItemNotFound() throws Exception {
+        return mvc.perform(get("/api/v1/posts/0")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult me() throws Exception {
+        return mvc.perform(get("/api/v1/members/me").header("Authorization", "Bearer user1")).andReturn();
+    }
+}
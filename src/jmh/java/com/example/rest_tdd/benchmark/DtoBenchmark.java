@@ -0,0 +1,97 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.domain.post.post.dto.PageDto;
+import com.example.rest_tdd.domain.post.post.dto.PostDto;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import com.example.rest_tdd.global.dto.RsData;
+import com.example.rest_tdd.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// PageDto/PostDto 변환과 RsData 직렬화. DB 접근 없이 미리 읽어둔 글로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoBenchmark {
+
+    @Param({"100"})
+    int postCount;
+
+    @Param({"10"})
+    int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private Page<Post> postPage;
+    private RsData<PageDto> rsData;
+    private RsData<Void> errorRsData;
+    private ServiceException serviceException;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(postCount);
+        objectMapper = context.getBean(ObjectMapper.class);
+        postPage = context.getBean(PostService.class).getListedItems(1, pageSize, "title", "");
+        rsData = new RsData<>("200-1", "글 목록 조회가 완료되었습니다.", new PageDto(postPage));
+        errorRsData = new RsData<>("404-1", "존재하지 않는 글입니다.");
+        serviceException = new ServiceException("404-1", "존재하지 않는 글입니다.");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostDto postDto() {
+        return new PostDto(postPage.getContent().get(0));
+    }
+
+    @Benchmark
+    public PageDto pageDto() {
+        return new PageDto(postPage);
+    }
+
+    @Benchmark
+    public byte[] rsDataSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(rsData);
+    }
+
+    @Benchmark
+    public byte[] errorRsDataSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorRsData);
+    }
+
+    // 응답처럼 스트림에 바로 쓰는 경우. (결과 byte[] 할당 없음)
+    @Benchmark
+    public void rsDataWrite() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), rsData);
+    }
+
+    @Benchmark
+    public void errorRsDataWrite() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), errorRsData);
+    }
+
+    // GlobalExceptionHandler 가 ServiceException 본문을 쓰는 경우
+    @Benchmark
+    public void errorBodyWrite() throws IOException {
+        OutputStream.nullOutputStream().write(serviceException.getBody());
+    }
+
+    @Benchmark
+    public int rsDataStatusCode() {
+        return rsData.getStatusCode();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+// 한 트랜잭션에서 글(또는 댓글) rows 건을 저장하는 처리량. (op = rows 건 insert)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InsertBenchmark {
+
+    @Param({"100"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private TransactionTemplate transactionTemplate;
+    private Member author;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(0);
+        postService = context.getBean(PostService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        author = context.getBean(MemberService.class).findByUsername("user1").get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void writePosts() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                postService.write(author, "insert title " + i, "insert content " + i, true, true);
+            }
+        });
+    }
+
+    @Benchmark
+    public void writePostsWithComments() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows / 10; i++) {
+                Post post = postService.write(author, "insert title " + i, "insert content " + i, true, true);
+
+                for (int j = 0; j < 9; j++) {
+                    post.addComment(author, "insert comment " + j);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.rest_tdd.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 앱을 띄운 뒤 clients 개의 클라이언트가 동시에 requests 번씩 요청을 보내고 지연시간 분포를 출력한다.
+// --virtual 을 주면 virtual 프로필(가상 스레드)로 띄운다.
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+
+        boolean virtual = hasFlag(args, "--virtual");
+        int clients = intArg(args, "--clients", 5000);
+        int requests = intArg(args, "--requests", 20);
+        int postCount = intArg(args, "--postCount", 1000);
+        String path = stringArg(args, "--path", "/api/v1/posts?page=2&pageSize=10");
+
+        ConfigurableApplicationContext context = virtual
+                ? BenchmarkApp.start(postCount, "virtual")
+                : BenchmarkApp.start(postCount);
+
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port + path);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            run(client, uri, Math.min(clients, 200), 5, new long[Math.min(clients, 200) * 5]); // warm up
+
+            long[] latencies = new long[clients * requests];
+            long startedAt = System.nanoTime();
+            int errors = run(client, uri, clients, requests, latencies);
+            long elapsed = System.nanoTime() - startedAt;
+
+            Arrays.sort(latencies);
+
+            System.out.printf("mode=%s clients=%d requests=%d errors=%d throughput=%.0f req/s%n",
+                    virtual ? "virtual" : "platform", clients, latencies.length, errors,
+                    latencies.length / (elapsed / 1_000_000_000.0));
+            System.out.printf("p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.90),
+                    percentile(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000.0);
+        } finally {
+            context.close();
+        }
+    }
+
+    // 클라이언트마다 이전 응답을 받은 뒤 다음 요청을 보낸다. (closed-loop)
+    private static int run(HttpClient client, URI uri, int clients, int requests, long[] latencies) {
+
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture[clients];
+
+        for (int c = 0; c < clients; c++) {
+            futures[c] = send(client, uri, c * requests, (c + 1) * requests, latencies, errors);
+        }
+
+        CompletableFuture.allOf(futures).join();
+
+        return errors.get();
+    }
+
+    private static CompletableFuture<Void> send(HttpClient client, URI uri, int index, int end, long[] latencies, AtomicInteger errors) {
+
+        if (index == end) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long sentAt = System.nanoTime();
+
+        return client.sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .handle((response, ex) -> {
+                    latencies[index] = System.nanoTime() - sentAt;
+
+                    if (ex != null || response.statusCode() != 200) errors.incrementAndGet();
+
+                    return null;
+                })
+                .thenCompose(ignored -> send(client, uri, index + 1, end, latencies, errors));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+    }
+
+    private static boolean hasFlag(String[] args, String name) {
+        return Arrays.asList(args).contains(name);
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(name + "="))
+                .map(arg -> arg.substring(name.length() + 1))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+}
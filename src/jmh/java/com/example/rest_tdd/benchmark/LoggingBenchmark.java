@@ -0,0 +1,55 @@
+package com.example.rest_tdd.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// 프로필별 로깅 비용에 따른 처리량.
+// dev 는 SQL, 바인딩 값, 트랜잭션 경계, ServiceException 스택 트레이스를 콘솔에 동기로 쓰고
+// prod 는 SQL 1% 만 JSON 으로 비동기로 쓴다. 콘솔 출력이 많으므로 결과만 보려면 파일로 돌려받는다.
+// ./gradlew jmh -PjmhArgs="LoggingBenchmark" > build/logging-benchmark.txt
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class LoggingBenchmark {
+
+    @Param({"dev", "prod"})
+    String profile;
+
+    @Param({"100"})
+    int postCount;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(postCount, profile);
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getItemNotFound() throws Exception {
+        return mvc.perform(get("/api/v1/posts/0")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getMines() throws Exception {
+        return mvc.perform(get("/api/v1/posts/mine").header("Authorization", "Bearer user1")).andReturn();
+    }
+}
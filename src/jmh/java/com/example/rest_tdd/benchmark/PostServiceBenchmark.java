@@ -0,0 +1,58 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    @Param({"1000"})
+    int postCount;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private int lastPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(postCount);
+        postService = context.getBean(PostService.class);
+        lastPage = postService.getListedItems(1, 3, "title", "").getTotalPages();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Post> listedItemsFirstPage() {
+        return postService.getListedItems(1, 3, "title", "");
+    }
+
+    @Benchmark
+    public Page<Post> listedItemsLastPage() {
+        return postService.getListedItems(lastPage, 3, "title", "");
+    }
+
+    @Benchmark
+    public Page<Post> listedItemsSearchTitle() {
+        return postService.getListedItems(1, 3, "title", "title 99");
+    }
+
+    @Benchmark
+    public Slice<Post> listedItemsAfter() {
+        return postService.getListedItemsAfter(postCount / 2, 3, "title", "");
+    }
+}
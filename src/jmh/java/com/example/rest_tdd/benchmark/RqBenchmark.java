@@ -0,0 +1,45 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.global.Rq;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RqBenchmark {
+
+    @Param({"0"})
+    int postCount;
+
+    private ConfigurableApplicationContext context;
+    private Rq rq;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start(postCount);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer user1");
+
+        rq = new Rq(request, context.getBean(MemberService.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member getAuthenticateActor() {
+        return rq.getAuthenticateActor();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rest_tdd.benchmark;
+
+import com.example.rest_tdd.RestTddApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// 기동 시간 비교. 이미 스키마가 있는 파일 DB 로 매번 애플리케이션을 새로 띄운다.
+// update   : Flyway 없이 ddl-auto=update (이전 방식)
+// validate : Flyway + ddl-auto=validate
+// none     : Flyway + ddl-auto=none
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"update", "validate", "none"})
+    String schemaMode;
+
+    private String[] args;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        Path dir = Files.createTempDirectory("startup-bench");
+        String url = "--spring.datasource.url=jdbc:h2:" + dir.resolve("db") + ";MODE=MySQL";
+
+        // application.yml 보다 우선하도록 커맨드라인 인자로 넘긴다.
+        args = schemaMode.equals("update")
+                ? new String[]{url, "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"}
+                : new String[]{url, "--spring.jpa.hibernate.ddl-auto=" + schemaMode};
+
+        // 스키마와 샘플 데이터를 미리 만들어 둔다.
+        start().close();
+    }
+
+    private ConfigurableApplicationContext start() {
+
+        return new SpringApplicationBuilder(RestTddApplication.class)
+                .profiles("bench")
+                .run(args);
+    }
+
+    @Benchmark
+    public void startup() {
+        start().close();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.rest_tdd.domain.adm.adm.controller;
+
+import com.example.rest_tdd.domain.adm.adm.dto.CacheRegionDto;
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.global.Rq;
+import com.example.rest_tdd.global.dto.RsData;
+import com.example.rest_tdd.global.exception.ServiceException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/adm/cache")
+@RequiredArgsConstructor
+public class ApiV1AdmCacheController {
+
+    private static final ServiceException ADMIN_ONLY = new ServiceException("403-1", "관리자만 조회할 수 있습니다.", false);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+    private final Rq rq;
+
+    // 2차 캐시 region 별 적중률. Hibernate 통계가 아니라 JCache 통계(cache.* 메트릭)를 읽으므로 운영에서도 나온다.
+    @GetMapping("/regions")
+    public RsData<List<CacheRegionDto>> getRegions() {
+
+        Member actor = rq.getAuthenticateActor();
+
+        if (!actor.isAdmin()) {
+            throw ADMIN_ONLY;
+        }
+
+        List<CacheRegionDto> regions = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getCacheRegionNames()
+                .stream()
+                .sorted()
+                .map(regionName -> new CacheRegionDto(
+                        regionName,
+                        count("cache.gets", regionName, "result", "hit"),
+                        count("cache.gets", regionName, "result", "miss"),
+                        count("cache.puts", regionName)
+                ))
+                .toList();
+
+        return new RsData<>(
+                "200-1",
+                "캐시 통계 조회가 완료되었습니다.",
+                regions
+        );
+    }
+
+    private long count(String meterName, String regionName, String... tags) {
+
+        FunctionCounter counter = meterRegistry.find(meterName)
+                .tag("cache", regionName)
+                .tags(tags)
+                .functionCounter();
+
+        return counter == null ? 0 : (long) counter.count();
+    }
+}
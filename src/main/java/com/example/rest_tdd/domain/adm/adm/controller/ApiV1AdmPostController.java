@@ -0,0 +1,42 @@
+package com.example.rest_tdd.domain.adm.adm.controller;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.post.service.PostExportService;
+import com.example.rest_tdd.global.Rq;
+import com.example.rest_tdd.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/adm/posts")
+@RequiredArgsConstructor
+public class ApiV1AdmPostController {
+
+    private static final ServiceException ADMIN_ONLY = new ServiceException("403-1", "관리자만 내보낼 수 있습니다.", false);
+
+    private final PostExportService postExportService;
+    private final Rq rq;
+
+    // 백업, 분석용 전체 내보내기. 응답 본문에 바로 쓰므로 글 수와 관계없이 메모리 사용량이 일정하다.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+
+        Member actor = rq.getAuthenticateActor();
+
+        if (!actor.isAdmin()) {
+            throw ADMIN_ONLY;
+        }
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(postExportService::exportListed);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.rest_tdd.domain.adm.adm.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CacheRegionDto {
+
+    private String regionName;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+
+    public CacheRegionDto(String regionName, long hitCount, long missCount, long putCount) {
+
+        this.regionName = regionName;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+
+        long requestCount = hitCount + missCount;
+        this.hitRatio = requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
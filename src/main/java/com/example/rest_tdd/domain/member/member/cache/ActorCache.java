@@ -0,0 +1,78 @@
+package com.example.rest_tdd.domain.member.member.cache;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+// apiKey -> Member 인증 캐시. 인증이 필요한 모든 요청이 DB 를 거치지 않도록 한다.
+// 캐시를 채우는 조회는 readOnly 가 아닌 트랜잭션으로 primary 에서 읽는다. (DataSourceConfig)
+// 복제본에서 읽으면 비밀번호, apiKey 변경 직후의 이전 값이 TTL 동안 캐시될 수 있다.
+@Component
+public class ActorCache implements MeterBinder {
+
+    private final Cache<String, Member> cache;
+    private final TransactionTemplate transactionTemplate;
+
+    // ActorCacheEvictListener 가 EntityManagerFactory 생성 중에 이 빈을 받으므로 트랜잭션 매니저는 지연 주입한다.
+    public ActorCache(@Lazy PlatformTransactionManager transactionManager,
+                      @Value("${custom.actorCache.maxSize:10000}") long maxSize,
+                      @Value("${custom.actorCache.ttlSeconds:300}") long ttlSeconds) {
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 없는 키는 캐시하지 않는다. (가입 직후 바로 인증할 수 있도록)
+    public Optional<Member> get(String apiKey, Function<String, Optional<Member>> loader) {
+
+        Member cached = cache.getIfPresent(apiKey);
+
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Member> opMember = transactionTemplate.execute(status -> loader.apply(apiKey));
+        opMember.ifPresent(member -> cache.put(apiKey, member));
+
+        return opMember;
+    }
+
+    public void evict(String apiKey) {
+        cache.invalidate(apiKey);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<String, Member> getNativeCache() {
+        return cache;
+    }
+
+    // cache_gets_total{cache="actor", result="hit|miss"} 등으로 노출된다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "actor");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.rest_tdd.domain.member.member.cache;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.global.transaction.Transactions;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 회원 정보가 변경/삭제되면 인증 캐시에서 제거
+// @PostUpdate, @PostRemove 는 flush 때 호출되므로 커밋된 뒤에 제거한다.
+// 커밋 전에 제거하면 그 사이의 캐시 미스가 커밋 전 값(이전 apiKey)을 다시 캐시할 수 있다.
+@Component
+@RequiredArgsConstructor
+public class ActorCacheEvictListener {
+
+    private final ActorCache actorCache;
+
+    @PostLoad
+    @PostPersist
+    public void remember(Member member) {
+        member.setLoadedApiKey(member.getApiKey());
+    }
+
+    // apiKey 가 바뀌었으면 이전 apiKey 로 캐시된 항목도 제거한다.
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+
+        Set<String> apiKeys = Stream.of(member.getLoadedApiKey(), member.getApiKey())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        member.setLoadedApiKey(member.getApiKey());
+
+        Transactions.afterCommit(() -> apiKeys.forEach(actorCache::evict));
+    }
+}
@@ -16,6 +16,10 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ApiV1MemberController {
 
+    private static final ServiceException USERNAME_TAKEN = new ServiceException("409-1", "이미 사용중인 아이디입니다.", false);
+    private static final ServiceException WRONG_USERNAME = new ServiceException("401-1", "잘못된 아이디입니다.", false);
+    private static final ServiceException WRONG_PASSWORD = new ServiceException("401-2", "비밀번호가 일치하지 않습니다.", false);
+
     private final MemberService memberService;
     private final Rq rq;
 
@@ -26,7 +30,7 @@ public class ApiV1MemberController {
 
         memberService.findByUsername(reqBody.username())
                 .ifPresent(member -> {
-                    throw new ServiceException("409-1", "이미 사용중인 아이디입니다.");
+                    throw USERNAME_TAKEN;
                 });
 
         Member member = memberService.join(reqBody.username, reqBody.password, reqBody.nickname);
@@ -46,11 +50,11 @@ public class ApiV1MemberController {
     public RsData<LoginResBody> login(@RequestBody @Valid LoginReqBody reqBody) {
 
         Member member = memberService.findByUsername(reqBody.username()).orElseThrow(
-                () -> new ServiceException("401-1", "잘못된 아이디입니다.")
+                () -> WRONG_USERNAME
         );
 
         if(!member.getPassword().equals(reqBody.password())) {
-            throw new ServiceException("401-2", "비밀번호가 일치하지 않습니다.");
+            throw WRONG_PASSWORD;
         }
 
         return new RsData<>(
@@ -1,10 +1,16 @@
 package com.example.rest_tdd.domain.member.member.entity;
 
+import com.example.rest_tdd.domain.member.member.cache.ActorCacheEvictListener;
 import com.example.rest_tdd.global.entity.BaseTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -13,7 +19,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ActorCacheEvictListener.class})
+@Table(indexes = {
+        // 인증 요청마다 apiKey 로 회원을 찾는다.
+        @Index(name = "uk_member_api_key", columnList = "api_key", unique = true)
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 public class Member extends BaseTime {
 
     @Column(length = 100, unique = true)
@@ -24,6 +35,9 @@ public class Member extends BaseTime {
     private String apiKey;
     @Column(length = 100)
     private String nickname;
+    // 인증 캐시에서 지울 변경 전 apiKey. 읽거나 저장했을 때의 값이다. (ActorCacheEvictListener)
+    @Transient
+    private String loadedApiKey;
 
     public boolean isAdmin() {
         return username.equals("admin");
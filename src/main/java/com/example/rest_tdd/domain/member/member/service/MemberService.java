@@ -1,17 +1,22 @@
 package com.example.rest_tdd.domain.member.member.service;
 
+import com.example.rest_tdd.domain.member.member.cache.ActorCache;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.member.member.repository.MemberRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ActorCache actorCache;
 
     public Member join(String username, String password, String nickname) {
 
@@ -25,19 +30,28 @@ public class MemberService {
         return memberRepository.save(member);
     }
 
+    @Transactional(readOnly = true)
     public long count() {
         return memberRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Member> findByUsername(String username) {
         return memberRepository.findByUsername(username);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Member> findById(long id) {
         return memberRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Member> findByApiKey(String apiKey) {
         return memberRepository.findByApiKey(apiKey);
     }
+
+    // 캐시에 없을 때만 DB 에서 읽는다. (ActorCache 가 primary 에서 읽음)
+    public Optional<Member> findActorByApiKey(String apiKey) {
+        return actorCache.get(apiKey, memberRepository::findByApiKey);
+    }
 }
\ No newline at end of file
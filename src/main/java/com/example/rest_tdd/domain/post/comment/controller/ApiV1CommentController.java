@@ -3,34 +3,69 @@ package com.example.rest_tdd.domain.post.comment.controller;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.post.comment.dto.CommentDto;
 import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.comment.service.CommentService;
+import com.example.rest_tdd.domain.post.comment.service.CommentWriteBuffer;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import com.example.rest_tdd.domain.post.post.service.PostService;
 import com.example.rest_tdd.global.Rq;
 import com.example.rest_tdd.global.dto.RsData;
+import com.example.rest_tdd.global.exception.ServiceErrors;
 import com.example.rest_tdd.global.exception.ServiceException;
+import com.example.rest_tdd.global.web.ETags;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/posts/{postId}/comments")
 public class ApiV1CommentController {
 
+    private static final ServiceException COMMENT_NOT_FOUND = new ServiceException("404-1", "존재하지 않는 댓글입니다.", false);
+
+    private static final int DEFAULT_PAGE_SIZE = 30;
+
     private final PostService postService;
+    private final CommentService commentService;
+    private final CommentWriteBuffer commentWriteBuffer;
     private final Rq rq;
 
     @GetMapping
     @Transactional(readOnly = true)
-    public List<CommentDto> getItems(@PathVariable long postId) {
+    public List<CommentDto> getItems(@PathVariable long postId,
+                                     @RequestParam(required = false) Integer page,
+                                     @RequestParam(required = false) Integer pageSize,
+                                     @RequestParam(required = false) Long after,
+                                     WebRequest webRequest) {
 
         Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+                () -> ServiceErrors.COMMENT_POST_NOT_FOUND
         );
 
-        return post.getComments()
+        // 응답이 목록뿐이라 다음 페이지 여부를 알릴 수 없으므로, 페이징 파라미터가 없으면 전체를 준다.
+        List<Comment> comments;
+
+        if (page == null && pageSize == null && after == null) {
+            comments = commentService.getItems(post);
+        } else if (after != null) {
+            comments = commentService.getItemsAfter(post, after, pageSizeOrDefault(pageSize)).getContent();
+        } else {
+            comments = commentService.getItems(post, page == null ? 1 : page, pageSizeOrDefault(pageSize)).getContent();
+        }
+
+        // 목록은 삭제를 수정일로 알 수 없으므로 Last-Modified 없이 ETag 만 사용
+        if (webRequest.checkNotModified(eTag(comments))) {
+            return null;
+        }
+
+        return comments
                 .stream()
                 .map(CommentDto::new)
                 .toList();
@@ -41,28 +76,29 @@ public class ApiV1CommentController {
     public CommentDto getItem(@PathVariable long postId, @PathVariable long id) {
 
         Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+                () -> ServiceErrors.COMMENT_POST_NOT_FOUND
         );
 
-        Comment comment = post.getCommentById(id);
+        Comment comment = getComment(post, id);
 
         return new CommentDto(comment);
     }
 
-    record WriteReqBody(String content) { }
+    // 쓰기 버퍼는 응답 후에 저장하므로 컬럼(varchar(255))에 들어가지 않는 값은 여기서 거절한다.
+    record WriteReqBody(@NotBlank @Size(max = 255) String content) { }
 
+    // 쓰기 버퍼를 사용하는 경우 요청 스레드에서는 큐에 넣기만 하므로 트랜잭션을 걸지 않는다.
     @PostMapping
-    @Transactional
-    public RsData<Void> write(@PathVariable long postId, @RequestBody WriteReqBody reqBody) {
+    public RsData<Void> write(@PathVariable long postId, @RequestBody @Valid WriteReqBody reqBody) {
 
         Member actor = rq.getAuthenticateActor();
-        Comment comment = _write(postId, actor, reqBody.content());
-
-        postService.flush();
+        long commentId = commentWriteBuffer.isEnabled()
+                ? _writeBehind(postId, actor, reqBody.content())
+                : _write(postId, actor, reqBody.content()).getId();
 
         return new RsData<>(
                 "201-1",
-                "%d번 댓글 작성이 완료되었습니다.".formatted(comment.getId())
+                "%d번 댓글 작성이 완료되었습니다.".formatted(commentId)
         );
     }
 
@@ -74,10 +110,10 @@ public class ApiV1CommentController {
 
         Member actor = rq.getAuthenticateActor();
         Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+                () -> ServiceErrors.COMMENT_POST_NOT_FOUND
         );
 
-        Comment comment = post.getCommentById(id);
+        Comment comment = getComment(post, id);
 
         comment.canModify(actor);
         comment.modify(reqBody.content());
@@ -94,13 +130,13 @@ public class ApiV1CommentController {
 
         Member actor = rq.getAuthenticateActor();
         Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
+                () -> ServiceErrors.COMMENT_POST_NOT_FOUND
         );
 
-        Comment comment = post.getCommentById(id);
+        Comment comment = getComment(post, id);
 
         comment.canDelete(actor);
-        post.deleteComment(comment);
+        commentService.delete(post, comment);
 
         return new RsData<>(
                 "200-1",
@@ -109,13 +145,40 @@ public class ApiV1CommentController {
     }
 
     public Comment _write(long postId, Member actor, String content) {
+        return commentService.write(postId, actor, content);
+    }
 
-        Post post = postService.getItem(postId).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 게시글입니다.")
-        );
+    private long _writeBehind(long postId, Member actor, String content) {
 
-        Comment comment = post.addComment(actor, content);
+        if (!postService.existsById(postId)) {
+            throw ServiceErrors.COMMENT_POST_NOT_FOUND;
+        }
 
-        return comment;
+        return commentWriteBuffer.write(postId, actor, content);
+    }
+
+    private int pageSizeOrDefault(Integer pageSize) {
+        return pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    }
+
+    private String eTag(List<Comment> comments) {
+
+        Object[] versionParts = comments.stream()
+                .flatMap(comment -> Stream.of(
+                        comment.getId(),
+                        comment.getModifiedDate(),
+                        comment.getAuthor().getId(),
+                        comment.getAuthor().getModifiedDate()
+                ))
+                .toArray();
+
+        return ETags.of(versionParts);
+    }
+
+    private Comment getComment(Post post, long id) {
+
+        return commentService.getItem(post, id).orElseThrow(
+                () -> COMMENT_NOT_FOUND
+        );
     }
 }
@@ -3,22 +3,31 @@ package com.example.rest_tdd.domain.post.comment.entity;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import com.example.rest_tdd.global.entity.BaseTime;
+import com.example.rest_tdd.global.exception.ServiceErrors;
 import com.example.rest_tdd.global.exception.ServiceException;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
+@Table(indexes = {
+        // 글별 댓글 목록 (post_id = ? order by id)
+        @Index(name = "idx_comment_post_id_id", columnList = "post_id, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment")
 public class Comment extends BaseTime {
 
+    private static final ServiceException MODIFY_FORBIDDEN = new ServiceException("403-1", "자신이 작성한 댓글만 수정 가능합니다.", false);
+    private static final ServiceException DELETE_FORBIDDEN = new ServiceException("403-1", "자신이 작성한 댓글만 삭제 가능합니다.", false);
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,26 +41,26 @@ public class Comment extends BaseTime {
     public void canModify(Member actor) {
 
         if (actor == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw ServiceErrors.UNAUTHENTICATED;
         }
 
         if (actor.isAdmin()) return ;
 
         if (actor.equals(this.author)) return ;
 
-        throw new ServiceException("403-1", "자신이 작성한 댓글만 수정 가능합니다.");
+        throw MODIFY_FORBIDDEN;
     }
 
     public void canDelete(Member actor) {
 
         if (actor == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw ServiceErrors.UNAUTHENTICATED;
         }
 
         if (actor.isAdmin()) return ;
 
         if (actor.equals(this.author)) return ;
 
-        throw new ServiceException("403-1", "자신이 작성한 댓글만 삭제 가능합니다.");
+        throw DELETE_FORBIDDEN;
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.rest_tdd.domain.post.comment.repository;
+
+import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findByPostOrderByIdAsc(Post post);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Comment> findByPostOrderByIdAsc(Post post, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Comment> findByPostAndIdGreaterThanOrderByIdAsc(Post post, long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Optional<Comment> findByPostAndId(Post post, long id);
+
+    Optional<Comment> findTopByPostOrderByIdDesc(Post post);
+
+    // 삭제된 행 수. 엔티티 단위로 삭제하므로 2차 캐시도 해당 댓글만 비워진다.
+    long deleteByPostAndId(Post post, long id);
+
+    // 내보내기용. PostRepository.streamByListedOrderByIdAsc 와 같은 글 순서로 읽는다.
+    @EntityGraph(attributePaths = "author")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<Comment> streamByPostListedOrderByPostIdAscIdAsc(boolean listed);
+}
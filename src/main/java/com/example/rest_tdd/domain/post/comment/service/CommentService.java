@@ -0,0 +1,77 @@
+package com.example.rest_tdd.domain.post.comment.service;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.comment.repository.CommentRepository;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import com.example.rest_tdd.global.exception.ServiceErrors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostService postService;
+
+    public List<Comment> getItems(Post post) {
+        return commentRepository.findByPostOrderByIdAsc(post);
+    }
+
+    public Slice<Comment> getItems(Post post, int page, int pageSize) {
+        return commentRepository.findByPostOrderByIdAsc(post, PageRequest.of(page - 1, pageSize));
+    }
+
+    // 커서(after) 기반 조회
+    public Slice<Comment> getItemsAfter(Post post, long after, int pageSize) {
+        return commentRepository.findByPostAndIdGreaterThanOrderByIdAsc(post, after, PageRequest.of(0, pageSize));
+    }
+
+    public Optional<Comment> getItem(Post post, long id) {
+        return commentRepository.findByPostAndId(post, id);
+    }
+
+    public Optional<Comment> getLatestItem(Post post) {
+        return commentRepository.findTopByPostOrderByIdDesc(post);
+    }
+
+    @Transactional
+    public Comment write(long postId, Member author, String content) {
+
+        Post post = postService.getItem(postId).orElseThrow(
+                () -> ServiceErrors.COMMENT_POST_NOT_FOUND
+        );
+
+        return write(post, author, content);
+    }
+
+    public Comment write(Post post, Member author, String content) {
+
+        Comment comment = post.addComment(author, content);
+        postService.increaseCommentCount(post.getId(), 1);
+
+        return commentRepository.save(comment);
+    }
+
+    public void delete(Post post, Comment comment) {
+
+        // 댓글 컬렉션이 이미 로딩된 경우에만 컬렉션에서 제거 (orphanRemoval)
+        boolean removed = Hibernate.isInitialized(post.getComments())
+                ? post.deleteComment(comment)
+                : commentRepository.deleteByPostAndId(post, comment.getId()) > 0;
+
+        // 이미 삭제된 댓글이면 댓글 수를 줄이지 않는다.
+        if (removed) {
+            postService.increaseCommentCount(post.getId(), -1);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.rest_tdd.domain.post.comment.service;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import com.example.rest_tdd.global.entity.SequenceIdAllocator;
+import com.example.rest_tdd.global.exception.ServiceException;
+import com.example.rest_tdd.global.transaction.Transactions;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+// 댓글 쓰기 버퍼. 요청은 id 를 미리 받아 큐에 넣기만 하고, 별도 스레드가 모아서 JDBC batch insert 로 저장한다.
+// 큐가 가득 차면 503 으로 거절한다. (backpressure)
+// 응답 후 저장되므로 작성 직후의 조회에는 아직 보이지 않을 수 있다.
+// 응답 후에는 실패를 알릴 수 없으므로 입력 검증은 큐에 넣기 전에 끝낸다. (ApiV1CommentController.WriteReqBody)
+// 기본은 꺼져 있다. (custom.comment.writeBehind.enabled)
+@Slf4j
+@Component
+public class CommentWriteBuffer {
+
+    // 과부하일 때 몰리는 응답이므로 5xx 지만 스택 트레이스를 만들지 않는다.
+    private static final ServiceException QUEUE_FULL = new ServiceException("503-1", "댓글 작성 요청이 많습니다. 잠시 후 다시 시도해주세요.", false);
+
+    private static final String INSERT_SQL = """
+            insert into comment (id, created_date, modified_date, author_id, post_id, content)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String ID_SEQUENCE = "comment_seq";
+    private static final String POST_COMMENTS_ROLE = Post.class.getName() + ".comments";
+
+    private record PendingComment(long id, long postId, long authorId, String content, LocalDateTime createdDate) { }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PostService postService;
+    private final SequenceIdAllocator idAllocator;
+    @Getter
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final BlockingQueue<PendingComment> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public CommentWriteBuffer(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory,
+                              PostService postService,
+                              SequenceIdAllocator idAllocator,
+                              @Value("${custom.comment.writeBehind.enabled:false}") boolean enabled,
+                              @Value("${custom.comment.writeBehind.queueCapacity:10000}") int queueCapacity,
+                              @Value("${custom.comment.writeBehind.batchSize:100}") int batchSize,
+                              @Value("${custom.comment.writeBehind.lingerMillis:5}") long lingerMillis) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.postService = postService;
+        this.idAllocator = idAllocator;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        if (!enabled) return;
+
+        running = true;
+        writer = new Thread(this::runWriter, "comment-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+
+        if (writer == null) return;
+
+        running = false;
+        writer.interrupt();
+        writer.join();
+    }
+
+    // 저장될 댓글의 id 를 반환한다. 저장을 기다리지 않는다.
+    // id 를 시퀀스에서 먼저 받아 두므로 응답한 id 그대로 저장된다. (재시도로 중복 저장되지 않음)
+    public long write(long postId, Member author, String content) {
+
+        long id = idAllocator.next(ID_SEQUENCE, 1).get(0);
+        PendingComment pending = new PendingComment(id, postId, author.getId(), content, LocalDateTime.now());
+
+        if (!queue.offer(pending)) {
+            throw QUEUE_FULL;
+        }
+
+        return id;
+    }
+
+    private void runWriter() {
+
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null) continue;
+
+                batch.add(first);
+
+                // 잠깐 기다려서 batch 를 채운다.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+                while (batch.size() < batchSize) {
+                    PendingComment next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                    if (next == null) break;
+
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                // 예) 커넥션을 얻지 못한 경우(CannotCreateTransactionException). 이 batch 만 버리고 쓰기 스레드는 계속 돈다.
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    log.error("댓글 {}건 저장 실패", batch.size(), e);
+                }
+
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+
+        try {
+            flushBatch(batch);
+        } finally {
+            evictPostComments(batch);
+        }
+    }
+
+    // 예) 그 사이 글이 삭제된 경우. 한 건씩 다시 시도해서 실패한 댓글만 버린다.
+    private void flushBatch(List<PendingComment> batch) {
+
+        Transactions.executeWithRowRetry(
+                transactionTemplate,
+                batch,
+                this::insertAndCount,
+                (pending, ex) -> log.warn("{}번 댓글 저장 실패 : {}", pending.id(), ex.getMessage())
+        );
+    }
+
+    // JPA 를 거치지 않고 저장했으므로 2차 캐시의 Post.comments 를 직접 비운다.
+    private void evictPostComments(List<PendingComment> batch) {
+
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        batch.stream()
+                .map(PendingComment::postId)
+                .distinct()
+                .forEach(postId -> cache.evictCollectionData(POST_COMMENTS_ROLE, postId));
+    }
+
+    // 댓글 insert 와 같은 트랜잭션에서 글별로 모아 댓글 수를 한 번씩만 증가시킨다.
+    private void insertAndCount(List<PendingComment> batch) {
+
+        insert(batch);
+
+        batch.stream()
+                .collect(Collectors.groupingBy(PendingComment::postId, Collectors.counting()))
+                .forEach((postId, count) -> postService.increaseCommentCount(postId, count.intValue()));
+    }
+
+    // id 를 시퀀스에서 미리 받아 두었으므로 generated keys 없이 batch insert 한다.
+    private void insert(List<PendingComment> batch) {
+
+        List<Object[]> args = new ArrayList<>(batch.size());
+
+        for (PendingComment pending : batch) {
+            Timestamp createdDate = Timestamp.valueOf(pending.createdDate());
+
+            args.add(new Object[]{pending.id(), createdDate, createdDate, pending.authorId(), pending.postId(), pending.content()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.rest_tdd.domain.post.post.cache;
+
+import com.example.rest_tdd.global.dto.RsData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 공개 글 목록 응답(직렬화된 JSON)을 조회 조건별로 캐시한다.
+// 같은 키에 대한 동시 요청은 한 번만 계산한다. (Caffeine 의 get 은 키 단위로 원자적으로 동작)
+// 캐시를 채우는 조회는 readOnly 가 아닌 트랜잭션으로 primary 에서 읽는다. (복제 지연으로 새 글이 빠진 목록이 캐시되지 않도록)
+@Component
+public class PostListCache implements MeterBinder {
+
+    // generation 이 바뀌면 이전 키는 더 이상 조회되지 않는다. (무효화 중 계산된 응답이 다시 들어가는 것을 방지)
+    private record Key(long generation, int page, int pageSize, String keywordType, String keyword, String sort, Long after) { }
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Key, byte[]> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PostListCache(ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${custom.postListCache.maxBytes:33554432}") long maxBytes,
+                         @Value("${custom.postListCache.ttlSeconds:60}") long ttlSeconds) {
+
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, byte[] body) -> body.length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public byte[] get(int page, int pageSize, String keywordType, String keyword, String sort, Long after,
+                      Supplier<RsData<?>> loader) {
+
+        Key key = new Key(generation.get(), page, pageSize, keywordType, keyword, sort, after);
+
+        return cache.get(key, k -> serialize(transactionTemplate.execute(status -> loader.get())));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<?, byte[]> getNativeCache() {
+        return cache;
+    }
+
+    private byte[] serialize(RsData<?> rsData) {
+
+        try {
+            return objectMapper.writeValueAsBytes(rsData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // cache_gets_total{cache="postList", result="hit|miss"} 등으로 노출된다.
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "postList");
+    }
+}
@@ -1,18 +1,29 @@
 package com.example.rest_tdd.domain.post.post.controller;
 
 import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.post.cache.PostListCache;
+import com.example.rest_tdd.domain.post.post.dto.ImportResultDto;
 import com.example.rest_tdd.domain.post.post.dto.PageDto;
+import com.example.rest_tdd.domain.post.post.dto.PostWriteReqBody;
 import com.example.rest_tdd.domain.post.post.dto.PostWithContentDto;
 import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostImportService;
 import com.example.rest_tdd.domain.post.post.service.PostService;
 import com.example.rest_tdd.global.Rq;
 import com.example.rest_tdd.global.dto.RsData;
-import com.example.rest_tdd.global.exception.ServiceException;
+import com.example.rest_tdd.global.exception.ServiceErrors;
+import com.example.rest_tdd.global.web.ETags;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
 
 
 @RestController
@@ -21,15 +32,43 @@ import org.springframework.web.bind.annotation.*;
 public class ApiV1PostController {
 
     private final PostService postService;
+    private final PostListCache postListCache;
+    private final PostImportService postImportService;
     private final Rq rq;
 
+    // 회원별로 달라지는 내용이 없으므로 직렬화된 응답을 그대로 캐시한다.
     @GetMapping
-    public RsData<PageDto> getItems(@RequestParam(defaultValue = "1") int page,
-                                    @RequestParam(defaultValue = "3") int pageSize,
-                                    @RequestParam(defaultValue = "title") String keywordType,
-                                    @RequestParam(defaultValue = "") String keyword) {
+    public ResponseEntity<byte[]> getItems(@RequestParam(defaultValue = "1") int page,
+                                           @RequestParam(defaultValue = "3") int pageSize,
+                                           @RequestParam(defaultValue = "title") String keywordType,
+                                           @RequestParam(defaultValue = "") String keyword,
+                                           @RequestParam(defaultValue = "id") String sort,
+                                           @RequestParam(required = false) Long after) {
+
+        byte[] body = postListCache.get(page, pageSize, keywordType, keyword, sort, after,
+                () -> _getItems(page, pageSize, keywordType, keyword, sort, after));
+
+        rq.setResultCode("200-1");
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private RsData<PageDto> _getItems(int page, int pageSize, String keywordType, String keyword, String sort, Long after) {
+
+        if (after != null) {
+            Slice<Post> postSlice = postService.getListedItemsAfter(after, pageSize, keywordType, keyword);
 
-        Page<Post> postPage = postService.getListedItems(page, pageSize, keywordType, keyword);
+            return new RsData<>(
+                    "200-1",
+                    "글 목록 조회가 완료되었습니다.",
+                    new PageDto(postSlice)
+            );
+        }
+
+        Page<Post> postPage = postService.getListedItems(page, pageSize, keywordType, keyword, sort);
 
         return new RsData<>(
                 "200-1",
@@ -42,10 +81,23 @@ public class ApiV1PostController {
     public RsData<PageDto> getMines(@RequestParam(defaultValue = "1") int page,
                                           @RequestParam(defaultValue = "3") int pageSize,
                                           @RequestParam(defaultValue = "title") String keywordType,
-                                          @RequestParam(defaultValue = "") String keyword) {
+                                          @RequestParam(defaultValue = "") String keyword,
+                                          @RequestParam(defaultValue = "id") String sort,
+                                          @RequestParam(required = false) Long after) {
 
         Member actor = rq.getAuthenticateActor();
-        Page<Post> pagePost = postService.getMines(actor, page, pageSize, keywordType, keyword);
+
+        if (after != null) {
+            Slice<Post> postSlice = postService.getMinesAfter(actor, after, pageSize, keywordType, keyword);
+
+            return new RsData<>(
+                    "200-1",
+                    "내 글 목록 조회가 완료되었습니다.",
+                    new PageDto(postSlice)
+            );
+        }
+
+        Page<Post> pagePost = postService.getMines(actor, page, pageSize, keywordType, keyword, sort);
 
         return new RsData<>(
                 "200-1",
@@ -55,10 +107,10 @@ public class ApiV1PostController {
     }
 
     @GetMapping("/{id}")
-    public RsData<PostWithContentDto> getItem(@PathVariable long id) {
+    public RsData<PostWithContentDto> getItem(@PathVariable long id, WebRequest webRequest) {
 
         Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
+                () -> ServiceErrors.POST_NOT_FOUND
         );
 
         if (!post.isPublished()) {
@@ -66,6 +118,15 @@ public class ApiV1PostController {
             post.canRead(actor);
         }
 
+        // 변경이 없으면 DTO 변환/직렬화 없이 304
+        // 댓글 수는 엔티티 수정 없이 바뀌므로 따로 넣는다. (Last-Modified 는 댓글 변경 시각으로)
+        String eTag = ETags.of(post.getId(), post.getModifiedDate(), post.getCommentCount(), post.getAuthor().getId(), post.getAuthor().getModifiedDate());
+        long lastModified = ETags.toEpochMilli(post.getModifiedDate(), post.getCommentModifiedDate(), post.getAuthor().getModifiedDate());
+
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
         return new RsData<>(
                 "200-1",
                 "%d번 글을 조회하였습니다.".formatted(id),
@@ -73,13 +134,8 @@ public class ApiV1PostController {
         );
     }
 
-    record WriteReqBody(@NotBlank String title,
-                        @NotBlank String content,
-                        boolean published,
-                        boolean listed) { }
-
     @PostMapping
-    public RsData<PostWithContentDto> write(@RequestBody @Valid WriteReqBody reqBody) {
+    public RsData<PostWithContentDto> write(@RequestBody @Valid PostWriteReqBody reqBody) {
 
         Member actor = rq.getAuthenticateActor();
         Post post = postService.write(actor, reqBody.title(), reqBody.content(), reqBody.published(), reqBody.listed());
@@ -91,19 +147,36 @@ public class ApiV1PostController {
         );
     }
 
+    // 대량 가져오기. JSON 배열 또는 NDJSON (한 줄에 PostWriteReqBody 하나)
+    // 한 건도 가져오지 못했으면 201 이 아닌 400 으로 응답한다. (실패 사유는 data.errors)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public RsData<ImportResultDto> importItems(InputStream body) {
+
+        Member actor = rq.getAuthenticateActor();
+        ImportResultDto result = postImportService.importItems(actor, body);
+
+        if (result.getImportedCount() == 0) {
+            return new RsData<>(
+                    "400-1",
+                    "가져온 글이 없습니다.",
+                    result
+            );
+        }
+
+        return new RsData<>(
+                "201-1",
+                "%d건의 글 가져오기가 완료되었습니다.".formatted(result.getImportedCount()),
+                result
+        );
+    }
+
     record ModifyReqBody(@NotBlank String title, @NotBlank String content) { }
 
     @PutMapping("/{id}")
     public RsData<PostWithContentDto> modify(@PathVariable long id, @RequestBody @Valid ModifyReqBody reqBody) {
 
         Member actor = rq.getAuthenticateActor();
-
-        Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
-        );
-
-        post.canModify(actor);
-        postService.modify(post, reqBody.title(), reqBody.content());
+        Post post = postService.modify(id, actor, reqBody.title(), reqBody.content());
 
         return new RsData<>(
                 "200-1",
@@ -116,13 +189,7 @@ public class ApiV1PostController {
     public RsData<Void> delete(@PathVariable long id) {
 
         Member actor = rq.getAuthenticateActor();
-
-        Post post = postService.getItem(id).orElseThrow(
-                () -> new ServiceException("404-1", "존재하지 않는 글입니다.")
-        );
-
-        post.canDelete(actor);
-        postService.delete(post);
+        postService.delete(id, actor);
 
         return new RsData<>(
                 "200-1",
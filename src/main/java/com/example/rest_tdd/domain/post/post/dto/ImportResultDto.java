@@ -0,0 +1,17 @@
+package com.example.rest_tdd.domain.post.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportResultDto {
+
+    public record ItemError(long index, String msg) { }
+
+    private long importedCount;
+    private long failedCount;
+    private List<ItemError> errors; // 앞에서부터 최대 PostImportService.MAX_ERRORS 건
+}
@@ -1,21 +1,25 @@
 package com.example.rest_tdd.domain.post.post.dto;
 
 import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageDto {
 
     List<PostDto> items;
-    int totalPages;
-    int totalItems;
-    int currentPageNo;
+    Integer totalPages;
+    Integer totalItems;
+    Integer currentPageNo;
     int pageSize;
+    Long nextCursor;
 
     public PageDto(Page<Post> postPage) {
 
@@ -27,4 +31,17 @@ public class PageDto {
         this.currentPageNo = postPage.getNumber() + 1;
         this.pageSize = postPage.getSize();
     }
+
+    // 커서 기반 조회 결과. 전체 개수는 알 수 없으므로 다음 커서만 내려준다.
+    public PageDto(Slice<Post> postSlice) {
+
+        this.items = postSlice.getContent().stream()
+                .map(PostDto::new)
+                .toList();
+        this.pageSize = postSlice.getSize();
+
+        if (postSlice.hasNext()) {
+            this.nextCursor = items.get(items.size() - 1).getId();
+        }
+    }
 }
@@ -16,6 +16,7 @@ public class PostDto {
     private String authorName;
     private boolean published;
     private boolean listed;
+    private long commentCount;
 
     public PostDto(Post post) {
 
@@ -27,5 +28,6 @@ public class PostDto {
         this.authorName = post.getAuthor().getNickname();
         this.published = post.isPublished();
         this.listed = post.isListed();
+        this.commentCount = post.getCommentCount();
     }
 }
@@ -17,6 +17,7 @@ public class PostWithContentDto {
     private String authorName;
     private boolean published;
     private boolean listed;
+    private long commentCount;
 
     public PostWithContentDto(Post post) {
 
@@ -29,5 +30,6 @@ public class PostWithContentDto {
         this.authorName = post.getAuthor().getNickname();
         this.published = post.isPublished();
         this.listed = post.isListed();
+        this.commentCount = post.getCommentCount();
     }
 }
@@ -0,0 +1,9 @@
+package com.example.rest_tdd.domain.post.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// 글 작성 요청. 단건 작성과 대량 가져오기의 한 항목이 같은 형식, 같은 검증을 쓴다.
+public record PostWriteReqBody(@NotBlank String title,
+                               @NotBlank String content,
+                               boolean published,
+                               boolean listed) { }
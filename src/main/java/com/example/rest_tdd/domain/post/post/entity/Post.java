@@ -3,12 +3,16 @@ package com.example.rest_tdd.domain.post.post.entity;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.post.comment.entity.Comment;
 import com.example.rest_tdd.global.entity.BaseTime;
+import com.example.rest_tdd.global.exception.ServiceErrors;
 import com.example.rest_tdd.global.exception.ServiceException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 @Entity
@@ -17,8 +21,18 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
+@Table(indexes = {
+        // 공개 목록 (listed = ? order by id), 내 글 목록 (author_id = ? order by id)
+        @Index(name = "idx_post_listed_id", columnList = "listed, id"),
+        @Index(name = "idx_post_author_id_id", columnList = "author_id, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 public class Post extends BaseTime {
 
+    private static final ServiceException MODIFY_FORBIDDEN = new ServiceException("403-1", "자신이 작성한 글만 수정 가능합니다.", false);
+    private static final ServiceException DELETE_FORBIDDEN = new ServiceException("403-1", "자신이 작성한 글만 삭제 가능합니다.", false);
+    private static final ServiceException READ_FORBIDDEN = new ServiceException("403-1", "비공개 설정된 글입니다.", false);
+
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
     private String title;
@@ -26,7 +40,19 @@ public class Post extends BaseTime {
     private boolean published;
     private boolean listed;
 
+    // 댓글 수 (비정규화). 동시에 댓글이 달려도 누락되지 않도록 DB 에서 원자적으로 증감하고(PostService.increaseCommentCount),
+    // 엔티티 flush 로는 덮어쓰지 않는다.
+    @Column(updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    // 마지막으로 댓글이 달리거나 삭제된 시각. 댓글 수와 함께 DB 에서만 갱신한다.
+    // 글 수정일(modifiedDate)과 별개로 단건 조회의 Last-Modified 에만 쓴다.
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime commentModifiedDate;
+
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "postComments")
     @Builder.Default
     private List<Comment> comments = new ArrayList<>();
 
@@ -40,47 +66,46 @@ public class Post extends BaseTime {
                 .build();
 
         comments.add(comment);
+        commentCount++;
 
         return comment;
     }
 
-    public Comment getCommentById(long id) {
+    // 실제로 제거된 경우에만 true
+    public boolean deleteComment(Comment comment) {
 
-        return comments.stream()
-                .filter(comment -> comment.getId() == id)
-                .findFirst()
-                .orElseThrow(
-                        () -> new ServiceException("404-1", "존재하지 않는 댓글입니다.")
-                );
-    }
+        if (!comments.remove(comment)) {
+            return false;
+        }
 
-    public void deleteComment(Comment comment) {
-        comments.remove(comment);
+        commentCount--;
+
+        return true;
     }
 
     public void canModify(Member actor) {
 
         if (actor == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw ServiceErrors.UNAUTHENTICATED;
         }
 
         if (actor.isAdmin()) return ;
 
         if (actor.equals(this.author)) return ;
 
-        throw new ServiceException("403-1", "자신이 작성한 글만 수정 가능합니다.");
+        throw MODIFY_FORBIDDEN;
     }
 
     public void canDelete(Member actor) {
 
         if (actor == null) {
-            throw new ServiceException("401-1", "인증 정보가 없습니다.");
+            throw ServiceErrors.UNAUTHENTICATED;
         }
 
         if (actor.isAdmin()) return;
         if (actor.equals(this.author)) return;
 
-        throw new ServiceException("403-1", "자신이 작성한 글만 삭제 가능합니다.");
+        throw DELETE_FORBIDDEN;
     }
 
     public void canRead(Member actor) {
@@ -89,16 +114,6 @@ public class Post extends BaseTime {
         if (actor.equals(this.author)) return ;
         if (actor.isAdmin()) return ;
 
-        throw new ServiceException("403-1", "비공개 설정된 글입니다.");
-    }
-
-    public Comment getLatestComment() {
-
-        return comments.stream()
-                .sorted(Comparator.comparing(Comment::getId).reversed())
-                .findFirst()
-                .orElseThrow(
-                        () -> new ServiceException("404-2", "존재하지 않는 댓글입니다.")
-                );
+        throw READ_FORBIDDEN;
     }
 }
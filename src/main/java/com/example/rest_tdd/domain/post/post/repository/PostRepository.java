@@ -4,21 +4,108 @@ import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// 목록 조회는 PostDto 에서 작성자 정보를 사용하므로 author 를 함께 가져온다. (N+1 방지)
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findTopByOrderByIdDesc();
 
+    @Override
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "author")
+    List<Post> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByListed(boolean listed, PageRequest pageRequest);
 
-    Page<Post> findByListedAndTitleLike(boolean b, String keyword, PageRequest pageRequest);
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findByAuthor(Member author, PageRequest pageRequest);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByListedAndIdGreaterThanOrderByIdAsc(boolean listed, long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByAuthorAndIdGreaterThanOrderByIdAsc(Member author, long after, Pageable pageable);
+
+    // 검색 색인을 다 만들기 전이나 1글자 검색어, 색인 후보가 너무 많은 검색어는 색인 없이 LIKE 로 찾는다. (PostService)
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findByListedAndTitleLike(boolean listed, String likeKeyword, PageRequest pageRequest);
 
-    Page<Post> findByListedAndContentLike(boolean b, String likeKeyword, PageRequest pageRequest);
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findByListedAndContentLike(boolean listed, String likeKeyword, PageRequest pageRequest);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByAuthorAndTitleLike(Member author, String likeKeyword, PageRequest pageRequest);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByAuthorAndContentLike(Member author, String likeKeyword, PageRequest pageRequest);
+
+    // sort=relevance. 키워드 등장 횟수 내림차순, 같으면 id 오름차순
+    @Query(value = "select p from Post p join fetch p.author where p.listed = :listed and p.title like concat('%', :keyword, '%') order by length(p.title) - length(replace(p.title, :keyword, '')) desc, p.id",
+            countQuery = "select count(p) from Post p where p.listed = :listed and p.title like concat('%', :keyword, '%')")
+    Page<Post> findByListedAndTitleContainingOrderByRelevance(@Param("listed") boolean listed, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "select p from Post p join fetch p.author where p.listed = :listed and p.content like concat('%', :keyword, '%') order by length(p.content) - length(replace(p.content, :keyword, '')) desc, p.id",
+            countQuery = "select count(p) from Post p where p.listed = :listed and p.content like concat('%', :keyword, '%')")
+    Page<Post> findByListedAndContentContainingOrderByRelevance(@Param("listed") boolean listed, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "select p from Post p join fetch p.author where p.author = :author and p.title like concat('%', :keyword, '%') order by length(p.title) - length(replace(p.title, :keyword, '')) desc, p.id",
+            countQuery = "select count(p) from Post p where p.author = :author and p.title like concat('%', :keyword, '%')")
+    Page<Post> findByAuthorAndTitleContainingOrderByRelevance(@Param("author") Member author, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "select p from Post p join fetch p.author where p.author = :author and p.content like concat('%', :keyword, '%') order by length(p.content) - length(replace(p.content, :keyword, '')) desc, p.id",
+            countQuery = "select count(p) from Post p where p.author = :author and p.content like concat('%', :keyword, '%')")
+    Page<Post> findByAuthorAndContentContainingOrderByRelevance(@Param("author") Member author, @Param("keyword") String keyword, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByListedAndTitleLikeAndIdGreaterThanOrderByIdAsc(boolean listed, String likeKeyword, long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByListedAndContentLikeAndIdGreaterThanOrderByIdAsc(boolean listed, String likeKeyword, long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByAuthorAndTitleLikeAndIdGreaterThanOrderByIdAsc(Member author, String likeKeyword, long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByAuthorAndContentLikeAndIdGreaterThanOrderByIdAsc(Member author, String likeKeyword, long after, Pageable pageable);
+
+    // 검색 색인이 찾은 후보 중 실제로 키워드가 들어 있는 글의 id. 후보 id 로만 찾으므로 PK 조회로 끝난다.
+    @Query("select p.id from Post p where p.id in :ids and p.title like concat('%', :keyword, '%') order by p.id")
+    List<Long> findIdsByIdInAndTitleContaining(@Param("ids") Collection<Long> ids, @Param("keyword") String keyword);
+
+    @Query("select p.id from Post p where p.id in :ids and p.content like concat('%', :keyword, '%') order by p.id")
+    List<Long> findIdsByIdInAndContentContaining(@Param("ids") Collection<Long> ids, @Param("keyword") String keyword);
+
+    // 키워드 등장 횟수 내림차순, 같으면 id 오름차순
+    @Query("select p.id from Post p where p.id in :ids and p.title like concat('%', :keyword, '%') order by length(p.title) - length(replace(p.title, :keyword, '')) desc, p.id")
+    List<Long> findIdsByIdInAndTitleContainingOrderByRelevance(@Param("ids") Collection<Long> ids, @Param("keyword") String keyword);
+
+    @Query("select p.id from Post p where p.id in :ids and p.content like concat('%', :keyword, '%') order by length(p.content) - length(replace(p.content, :keyword, '')) desc, p.id")
+    List<Long> findIdsByIdInAndContentContainingOrderByRelevance(@Param("ids") Collection<Long> ids, @Param("keyword") String keyword);
+
+    // 내보내기용. 커서로 fetch size 만큼씩 읽고, 대량 조회가 2차 캐시를 밀어내지 않도록 캐시를 거치지 않는다.
+    @EntityGraph(attributePaths = "author")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<Post> streamByListedOrderByIdAsc(boolean listed);
 }
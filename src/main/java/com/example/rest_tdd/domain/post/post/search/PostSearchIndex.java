@@ -0,0 +1,135 @@
+package com.example.rest_tdd.domain.post.post.search;
+
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+// 글 제목/내용에 대한 메모리 역색인.
+// 2글자 단위(bigram)로 색인해서 LIKE '%keyword%' 와 같은 부분 일치 검색의 후보 id 를 전체 스캔 없이 찾는다.
+// 원문은 들고 있지 않는다. bigram 이 모두 있어도 연속되지 않을 수 있으므로 후보는 DB 에서 다시 확인한다. (PostService)
+// 시작 시 색인을 다 만들기 전(isReady() == false)이나 1글자 검색어는 색인을 쓰지 않는다.
+@Component
+public class PostSearchIndex {
+
+    public static final int GRAM_SIZE = 2;
+
+    // 필터(공개 여부, 작성자)에 필요한 값만 둔다.
+    public record Doc(long id, long authorId, boolean listed) { }
+
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> titleIndex = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> contentIndex = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public void put(Post post) {
+        put(post.getId(), post.getAuthor().getId(), post.isListed(), post.getTitle(), post.getContent());
+    }
+
+    public synchronized void put(long id, long authorId, boolean listed, String title, String content) {
+
+        docs.put(id, new Doc(id, authorId, listed));
+        grams(title).forEach(gram -> titleIndex.computeIfAbsent(gram, k -> new ConcurrentSkipListSet<>()).add(id));
+        grams(content).forEach(gram -> contentIndex.computeIfAbsent(gram, k -> new ConcurrentSkipListSet<>()).add(id));
+    }
+
+    // 원문을 들고 있지 않으므로 이전 제목/내용으로 지울 posting 을 찾는다.
+    public synchronized void remove(long id, String title, String content) {
+
+        docs.remove(id);
+        grams(title).forEach(gram -> removePosting(titleIndex, gram, id));
+        grams(content).forEach(gram -> removePosting(contentIndex, gram, id));
+    }
+
+    public synchronized void clear() {
+        ready = false;
+        docs.clear();
+        titleIndex.clear();
+        contentIndex.clear();
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean supports(String keyword) {
+        return ready && keyword.length() >= GRAM_SIZE;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // id 가 after 보다 큰 후보를 id 오름차순으로 최대 limit 개까지만 찾는다.
+    // 가장 작은 posting 만 순회하고, 나머지는 포함 여부만 확인한다.
+    public List<Long> search(String keywordType, String keyword, Predicate<Doc> filter, long after, int limit) {
+
+        Map<String, Set<Long>> index = keywordType.equals("content") ? contentIndex : titleIndex;
+
+        List<NavigableSet<Long>> postings = new ArrayList<>();
+
+        for (String gram : grams(keyword)) {
+            Set<Long> posting = index.get(gram);
+
+            if (posting == null) return List.of();
+
+            postings.add((NavigableSet<Long>) posting);
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> ids = new ArrayList<>();
+
+        for (Long id : postings.get(0).tailSet(after, false)) {
+
+            if (!containsAll(postings, id)) continue;
+
+            Doc doc = docs.get(id);
+
+            if (doc == null || !filter.test(doc)) continue;
+
+            ids.add(id);
+
+            if (ids.size() >= limit) break;
+        }
+
+        return ids;
+    }
+
+    private static boolean containsAll(List<NavigableSet<Long>> postings, Long id) {
+
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(id)) return false;
+        }
+
+        return true;
+    }
+
+    private static void removePosting(Map<String, Set<Long>> index, String gram, long id) {
+
+        index.computeIfPresent(gram, (k, posting) -> {
+            posting.remove(id);
+            return posting.isEmpty() ? null : posting;
+        });
+    }
+
+    private static Set<String> grams(String text) {
+
+        if (text == null) return Set.of();
+
+        Set<String> grams = new HashSet<>();
+
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+
+        return grams;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.rest_tdd.domain.post.post.service;
+
+import com.example.rest_tdd.domain.post.comment.dto.CommentDto;
+import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.comment.repository.CommentRepository;
+import com.example.rest_tdd.domain.post.post.dto.PostWithContentDto;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 공개 목록 글을 댓글과 함께 한 줄에 하나씩(NDJSON) 내보낸다.
+// 글과 댓글을 같은 순서(글 id)의 커서 두 개로 읽으면서 합치므로, 메모리에는 현재 글과 댓글 한 건만 올라간다.
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    // 이 건수마다 영속성 컨텍스트를 비운다. (이미 쓴 글, 댓글, 작성자, 댓글의 글 프록시가 쌓이지 않도록)
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportListed(OutputStream out) throws IOException {
+
+        long count = 0;
+
+        try (Stream<Post> posts = postRepository.streamByListedOrderByIdAsc(true);
+             Stream<Comment> comments = commentRepository.streamByPostListedOrderByPostIdAscIdAsc(true);
+             JsonGenerator gen = objectMapper.createGenerator(out)) {
+
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+
+            Iterator<Comment> commentIterator = comments.iterator();
+            Comment comment = next(commentIterator);
+
+            for (Iterator<Post> postIterator = posts.iterator(); postIterator.hasNext(); ) {
+
+                Post post = postIterator.next();
+
+                gen.writeStartObject();
+                gen.writeObjectField("post", new PostWithContentDto(post));
+                gen.writeArrayFieldStart("comments");
+
+                // 두 커서 사이에 목록에서 빠진 글의 댓글은 건너뛴다.
+                while (comment != null && comment.getPost().getId() < post.getId()) {
+                    comment = next(commentIterator);
+                }
+
+                while (comment != null && comment.getPost().getId().equals(post.getId())) {
+                    gen.writeObject(new CommentDto(comment));
+                    comment = next(commentIterator);
+                }
+
+                gen.writeEndArray();
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    gen.flush();
+                    entityManager.clear();
+                }
+            }
+
+            gen.flush();
+        }
+
+        return count;
+    }
+
+    private Comment next(Iterator<Comment> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
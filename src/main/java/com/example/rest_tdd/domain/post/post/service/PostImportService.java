@@ -0,0 +1,227 @@
+package com.example.rest_tdd.domain.post.post.service;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.post.cache.PostListCache;
+import com.example.rest_tdd.domain.post.post.dto.ImportResultDto;
+import com.example.rest_tdd.domain.post.post.dto.PostWriteReqBody;
+import com.example.rest_tdd.domain.post.post.search.PostSearchIndex;
+import com.example.rest_tdd.global.entity.SequenceIdAllocator;
+import com.example.rest_tdd.global.transaction.Transactions;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 글 대량 가져오기. JSON 배열 또는 NDJSON 을 한 건씩 읽어서 batchSize 단위로 JDBC batch insert 한다.
+// 요청 본문 전체를 메모리에 올리지 않는다. 잘못된 항목은 건너뛰고 errors 에 남긴다.
+@Service
+public class PostImportService {
+
+    public static final int MAX_ERRORS = 1000;
+
+    private static final String ID_SEQUENCE = "post_seq";
+
+    private static final String INSERT_SQL = """
+            insert into post (id, created_date, modified_date, author_id, title, content, published, listed, comment_count)
+            values (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private record Row(long index, PostWriteReqBody item) { }
+
+    private static class Progress {
+
+        private long importedCount;
+        private long failedCount;
+        private final List<ImportResultDto.ItemError> errors = new ArrayList<>();
+
+        private void fail(long index, String msg) {
+
+            failedCount++;
+
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new ImportResultDto.ItemError(index, msg));
+            }
+        }
+
+        private ImportResultDto toDto() {
+            return new ImportResultDto(importedCount, failedCount, errors);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostSearchIndex postSearchIndex;
+    private final PostListCache postListCache;
+    private final SequenceIdAllocator idAllocator;
+    private final int batchSize;
+
+    public PostImportService(ObjectMapper objectMapper,
+                             Validator validator,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             PostSearchIndex postSearchIndex,
+                             PostListCache postListCache,
+                             SequenceIdAllocator idAllocator,
+                             @Value("${custom.post.import.batchSize:1000}") int batchSize) {
+
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postSearchIndex = postSearchIndex;
+        this.postListCache = postListCache;
+        this.idAllocator = idAllocator;
+        this.batchSize = batchSize;
+    }
+
+    public ImportResultDto importItems(Member author, InputStream in) {
+
+        Progress progress = new Progress();
+        List<Row> batch = new ArrayList<>(batchSize);
+        long index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(in)) {
+
+            JsonToken token = parser.nextToken();
+
+            // [ {...}, {...} ] 이면 배열 안을, 아니면 최상위 값들을 차례로 읽는다. (NDJSON)
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && token != JsonToken.END_ARRAY) {
+
+                // 한 항목만 트리로 읽는다. 형식 오류는 이 항목만 실패 처리하고 다음 항목으로 넘어간다.
+                JsonNode node = objectMapper.readTree(parser);
+                Row row = toRow(index, node, progress);
+
+                if (row != null) {
+                    batch.add(row);
+
+                    if (batch.size() >= batchSize) {
+                        flush(author, batch, progress);
+                    }
+                }
+
+                index++;
+                token = parser.nextToken();
+            }
+        } catch (StreamReadException e) {
+            // JSON 문법 오류 이후로는 항목 경계를 알 수 없으므로 중단한다.
+            progress.fail(index, "JSON 형식이 올바르지 않습니다. : " + e.getOriginalMessage());
+        } catch (IOException e) {
+            progress.fail(index, "요청 본문을 읽지 못했습니다. : " + e.getMessage());
+        }
+
+        flush(author, batch, progress);
+
+        return progress.toDto();
+    }
+
+    private Row toRow(long index, JsonNode node, Progress progress) {
+
+        PostWriteReqBody item;
+
+        try {
+            item = objectMapper.treeToValue(node, PostWriteReqBody.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(index, "항목 형식이 올바르지 않습니다. : " + e.getOriginalMessage());
+            return null;
+        }
+
+        if (item == null) {
+            progress.fail(index, "항목 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        String message = validator.validate(item)
+                .stream()
+                .map(this::toMessage)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+
+        if (!message.isEmpty()) {
+            progress.fail(index, message);
+            return null;
+        }
+
+        return new Row(index, item);
+    }
+
+    // GlobalExceptionHandler 의 400-1 메시지와 같은 형식 (필드 : 제약 : 메시지)
+    private String toMessage(ConstraintViolation<PostWriteReqBody> violation) {
+
+        return violation.getPropertyPath() + " : "
+                + violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + " : "
+                + violation.getMessage();
+    }
+
+    private void flush(Member author, List<Row> batch, Progress progress) {
+
+        if (batch.isEmpty()) return;
+
+        long failedCount = progress.failedCount;
+
+        // 예) 컬럼 길이 초과. 한 건씩 다시 시도해서 실패한 항목만 실패 처리한다.
+        Transactions.executeWithRowRetry(
+                transactionTemplate,
+                List.copyOf(batch),
+                rows -> index(author, rows, insert(author, rows)),
+                (row, ex) -> progress.fail(row.index(), "저장하지 못했습니다. : " + ex.getMostSpecificCause().getMessage())
+        );
+
+        progress.importedCount += batch.size() - (progress.failedCount - failedCount);
+
+        batch.clear();
+    }
+
+    // insert 한 트랜잭션(바깥 트랜잭션 안에서 호출되면 그 트랜잭션)이 커밋된 뒤에 색인한다.
+    private void index(Member author, List<Row> rows, List<Long> ids) {
+
+        Transactions.afterCommit(() -> {
+            for (int i = 0; i < rows.size(); i++) {
+                PostWriteReqBody item = rows.get(i).item();
+                postSearchIndex.put(ids.get(i), author.getId(), item.listed(), item.title(), item.content());
+            }
+
+            postListCache.invalidateAll();
+        });
+    }
+
+    // id 를 시퀀스에서 미리 받아 쓰므로 generated keys 없이 batch insert 한다.
+    private List<Long> insert(Member author, List<Row> rows) {
+
+        List<Long> ids = idAllocator.next(ID_SEQUENCE, rows.size());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < rows.size(); i++) {
+            PostWriteReqBody item = rows.get(i).item();
+
+            args.add(new Object[]{ids.get(i), now, now, author.getId(), item.title(), item.content(), item.published(), item.listed()});
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+
+        return ids;
+    }
+}
@@ -1,26 +1,55 @@
 package com.example.rest_tdd.domain.post.post.service;
 
 import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.post.cache.PostListCache;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import com.example.rest_tdd.domain.post.post.repository.PostRepository;
+import com.example.rest_tdd.domain.post.post.search.PostSearchIndex;
+import com.example.rest_tdd.global.exception.ServiceErrors;
+import com.example.rest_tdd.global.transaction.Transactions;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("app.service")
 public class PostService {
 
+    private static final int REINDEX_CHUNK_SIZE = 1000;
+    private static final String REINDEX_SQL = "select id, author_id, listed, title, content from post where id > ? order by id limit ?";
+    // 검색 한 번에 확인하는 색인 후보 수의 상한. 넘으면 결과 수를 다 셀 수 없으므로 색인 대신 LIKE 로 찾는다.
+    public static final int MAX_SEARCH_CANDIDATES = 1000;
+    private static final String INCREASE_COMMENT_COUNT_SQL = "update post set comment_count = comment_count + ?, comment_modified_date = ? where id = ?";
+
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final PostListCache postListCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
 
     public Post write(Member author, String title, String content, boolean published, boolean listed) {
 
-        return postRepository.save(
+        Post post = postRepository.save(
                 Post
                         .builder()
                         .author(author)
@@ -30,59 +59,314 @@ public class PostService {
                         .listed(listed)
                         .build()
         );
+
+        Transactions.afterCommit(() -> {
+            postSearchIndex.put(post);
+            postListCache.invalidateAll();
+        });
+
+        return post;
     }
 
+    @Transactional(readOnly = true)
     public List<Post> getItems() {
         return postRepository.findAll();
     }
 
+    // 2차 캐시에서 읽으면 @EntityGraph 가 적용되지 않아 author 가 프록시로 남는다.
+    // open-in-view 가 꺼져 있으므로 트랜잭션 안에서 초기화한다. (member 도 2차 캐시에서 읽음)
+    @Transactional(readOnly = true)
     public Optional<Post> getItem(long id) {
-        return postRepository.findById(id);
+
+        Optional<Post> opPost = postRepository.findById(id);
+        opPost.ifPresent(post -> Hibernate.initialize(post.getAuthor()));
+
+        return opPost;
     }
 
+    @Transactional(readOnly = true)
+    public boolean existsById(long id) {
+        return postRepository.existsById(id);
+    }
+
+    @Transactional(readOnly = true)
     public long count() {
         return postRepository.count();
     }
 
+    // 조회, 권한 확인, 삭제를 한 트랜잭션에서 한다. (open-in-view 가 꺼져 있어 따로 조회한 글은 준영속 상태)
+    @Transactional
+    public void delete(long id, Member actor) {
+
+        Post post = getItem(id).orElseThrow(
+                () -> ServiceErrors.POST_NOT_FOUND
+        );
+
+        post.canDelete(actor);
+        delete(post);
+    }
+
     public void delete(Post post) {
         postRepository.delete(post);
+        Transactions.afterCommit(() -> {
+            postSearchIndex.remove(post.getId(), post.getTitle(), post.getContent());
+            postListCache.invalidateAll();
+        });
+    }
+
+    // 댓글 수는 읽어서 더하지 않고 UPDATE 한 문장으로 증감한다. (동시 작성 시 lost update 방지)
+    // JPQL/네이티브 bulk update 는 post 2차 캐시 region 전체를 비우므로 JdbcTemplate 으로 실행하고 해당 글만 evict 한다.
+    // 목록 캐시(PostListCache)는 비우지 않는다. 목록의 댓글 수는 TTL 동안 이전 값일 수 있다.
+    // 글 수정일은 그대로 두고 댓글 변경 시각(comment_modified_date)만 갱신한다. (단건 조회의 Last-Modified 가 바뀌도록)
+    public void increaseCommentCount(long postId, int delta) {
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(INCREASE_COMMENT_COUNT_SQL, delta, now, postId);
+
+        // 같은 트랜잭션에서 저장한 글은 아직 insert 되지 않아 갱신되는 행이 없다. 그때만 flush 후 다시 실행한다.
+        // (매번 flush 하면 쌓여 있던 댓글 insert 가 댓글마다 실행되어 batch insert 가 되지 않음)
+        if (updated == 0 && TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+            jdbcTemplate.update(INCREASE_COMMENT_COUNT_SQL, delta, now, postId);
+        }
+
+        Transactions.afterCommit(() -> entityManagerFactory.getCache().evict(Post.class, postId));
+    }
+
+    // 조회한 글을 같은 트랜잭션에서 수정해야 변경이 저장된다. (따로 조회한 글은 준영속 상태라 dirty checking 이 되지 않음)
+    @Transactional
+    public Post modify(long id, Member actor, String title, String content) {
+
+        Post post = getItem(id).orElseThrow(
+                () -> ServiceErrors.POST_NOT_FOUND
+        );
+
+        post.canModify(actor);
+        modify(post, title, content);
+
+        return post;
     }
 
     @Transactional
     public void modify(Post post, String title, String content) {
+        String oldTitle = post.getTitle();
+        String oldContent = post.getContent();
         post.setTitle(title);
         post.setContent(content);
+        Transactions.afterCommit(() -> {
+            postSearchIndex.remove(post.getId(), oldTitle, oldContent);
+            postSearchIndex.put(post);
+            postListCache.invalidateAll();
+        });
     }
 
     public void flush() {
         postRepository.flush();
     }
 
+    @Transactional(readOnly = true)
     public Optional<Post> getLatestItem() {
         return postRepository.findTopByOrderByIdDesc();
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getListedItems(int page, int pageSize, String keywordType, String keyword) {
+        return getListedItems(page, pageSize, keywordType, keyword, "id");
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Post> getListedItems(int page, int pageSize, String keywordType, String keyword, String sort) {
 
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
-        String likeKeyword = "%" + keyword + "%";
 
-        if (keywordType.equals("content")) {
-            return postRepository.findByListedAndContentLike(true, likeKeyword, pageRequest);
+        if (keyword.isBlank()) {
+            return postRepository.findByListed(true, pageRequest);
         }
 
-        return postRepository.findByListedAndTitleLike(true, likeKeyword, pageRequest);
+        Optional<Page<Post>> searched = postSearchIndex.supports(keyword)
+                ? search(keywordType, keyword, sort, doc -> doc.listed(), pageRequest)
+                : Optional.empty();
+
+        return searched.orElseGet(() -> {
+            if (sort.equals("relevance")) {
+                return keywordType.equals("content")
+                        ? postRepository.findByListedAndContentContainingOrderByRelevance(true, keyword, pageRequest)
+                        : postRepository.findByListedAndTitleContainingOrderByRelevance(true, keyword, pageRequest);
+            }
+
+            return keywordType.equals("content")
+                    ? postRepository.findByListedAndContentLike(true, "%" + keyword + "%", pageRequest)
+                    : postRepository.findByListedAndTitleLike(true, "%" + keyword + "%", pageRequest);
+        });
     }
 
+    @Transactional(readOnly = true)
     public Page<Post> getMines(Member author, int page, int pageSize, String keywordType, String keyword) {
+        return getMines(author, page, pageSize, keywordType, keyword, "id");
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Post> getMines(Member author, int page, int pageSize, String keywordType, String keyword, String sort) {
 
         PageRequest pageRequest = PageRequest.of(page - 1, pageSize);
-        String likeKeyword = "%" + keyword + "%";
+
+        if (keyword.isBlank()) {
+            return postRepository.findByAuthor(author, pageRequest);
+        }
+
+        Optional<Page<Post>> searched = postSearchIndex.supports(keyword)
+                ? search(keywordType, keyword, sort, doc -> doc.authorId() == author.getId(), pageRequest)
+                : Optional.empty();
+
+        return searched.orElseGet(() -> {
+            if (sort.equals("relevance")) {
+                return keywordType.equals("content")
+                        ? postRepository.findByAuthorAndContentContainingOrderByRelevance(author, keyword, pageRequest)
+                        : postRepository.findByAuthorAndTitleContainingOrderByRelevance(author, keyword, pageRequest);
+            }
+
+            return keywordType.equals("content")
+                    ? postRepository.findByAuthorAndContentLike(author, "%" + keyword + "%", pageRequest)
+                    : postRepository.findByAuthorAndTitleLike(author, "%" + keyword + "%", pageRequest);
+        });
+    }
+
+    // 커서(after) 기반 조회. count 쿼리를 실행하지 않는다.
+    @Transactional(readOnly = true)
+    public Slice<Post> getListedItemsAfter(long after, int pageSize, String keywordType, String keyword) {
+
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+
+        if (keyword.isBlank()) {
+            return postRepository.findByListedAndIdGreaterThanOrderByIdAsc(true, after, pageRequest);
+        }
+
+        Optional<Slice<Post>> searched = postSearchIndex.supports(keyword)
+                ? searchAfter(keywordType, keyword, after, doc -> doc.listed(), pageRequest)
+                : Optional.empty();
+
+        return searched.orElseGet(() -> keywordType.equals("content")
+                ? postRepository.findByListedAndContentLikeAndIdGreaterThanOrderByIdAsc(true, "%" + keyword + "%", after, pageRequest)
+                : postRepository.findByListedAndTitleLikeAndIdGreaterThanOrderByIdAsc(true, "%" + keyword + "%", after, pageRequest));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Post> getMinesAfter(Member author, long after, int pageSize, String keywordType, String keyword) {
+
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+
+        if (keyword.isBlank()) {
+            return postRepository.findByAuthorAndIdGreaterThanOrderByIdAsc(author, after, pageRequest);
+        }
+
+        Optional<Slice<Post>> searched = postSearchIndex.supports(keyword)
+                ? searchAfter(keywordType, keyword, after, doc -> doc.authorId() == author.getId(), pageRequest)
+                : Optional.empty();
+
+        return searched.orElseGet(() -> keywordType.equals("content")
+                ? postRepository.findByAuthorAndContentLikeAndIdGreaterThanOrderByIdAsc(author, "%" + keyword + "%", after, pageRequest)
+                : postRepository.findByAuthorAndTitleLikeAndIdGreaterThanOrderByIdAsc(author, "%" + keyword + "%", after, pageRequest));
+    }
+
+    // 애플리케이션 시작 시 DB 기준으로 검색 색인을 다시 만든다. 다 만들 때까지 검색은 LIKE 로 처리된다.
+    // 엔티티로 읽으면 2차 캐시가 전체 글로 채워지므로 JDBC 로 필요한 컬럼만 읽는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindex() {
+
+        postSearchIndex.clear();
+
+        long after = 0;
+        List<Long> ids;
+
+        do {
+            ids = jdbcTemplate.query(REINDEX_SQL, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                postSearchIndex.put(id, rs.getLong("author_id"), rs.getBoolean("listed"), rs.getString("title"), rs.getString("content"));
+                return id;
+            }, after, REINDEX_CHUNK_SIZE);
+
+            if (!ids.isEmpty()) {
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == REINDEX_CHUNK_SIZE);
+
+        postSearchIndex.markReady();
+    }
+
+    // 실제 포함 여부는 후보 id 로 DB 에서 확인한다.
+    // 후보가 MAX_SEARCH_CANDIDATES 개를 넘으면 전체 결과 수와 관련도 순서를 구할 수 없으므로 비워서 돌려준다. (LIKE 로 찾음)
+    private Optional<Page<Post>> search(String keywordType, String keyword, String sort,
+                                        Predicate<PostSearchIndex.Doc> filter, PageRequest pageRequest) {
+
+        List<Long> candidates = postSearchIndex.search(keywordType, keyword, filter, 0, MAX_SEARCH_CANDIDATES + 1);
+
+        if (candidates.size() > MAX_SEARCH_CANDIDATES) {
+            return Optional.empty();
+        }
+
+        List<Long> ids = matchIds(keywordType, keyword, candidates, sort.equals("relevance"));
+
+        int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+        int to = Math.min(from + pageRequest.getPageSize(), ids.size());
+
+        return Optional.of(new PageImpl<>(findAllInOrder(ids.subList(from, to)), pageRequest, ids.size()));
+    }
+
+    // 다음 페이지 여부까지 pageSize + 1 개를 찾을 때까지 후보를 pageSize + 1 개씩 확인한다.
+    // 후보를 MAX_SEARCH_CANDIDATES 개 넘게 확인해도 다 채우지 못하면 비워서 돌려준다. (LIKE 로 찾음)
+    private Optional<Slice<Post>> searchAfter(String keywordType, String keyword, long after,
+                                              Predicate<PostSearchIndex.Doc> filter, PageRequest pageRequest) {
+
+        int chunkSize = pageRequest.getPageSize() + 1;
+        List<Long> ids = new ArrayList<>();
+        long cursor = after;
+        int examined = 0;
+
+        while (ids.size() < chunkSize) {
+
+            if (examined >= MAX_SEARCH_CANDIDATES) {
+                return Optional.empty();
+            }
+
+            List<Long> candidates = postSearchIndex.search(keywordType, keyword, filter, cursor, chunkSize);
+            ids.addAll(matchIds(keywordType, keyword, candidates, false));
+
+            if (candidates.size() < chunkSize) break;
+
+            examined += candidates.size();
+            cursor = candidates.get(candidates.size() - 1);
+        }
+
+        boolean hasNext = ids.size() > pageRequest.getPageSize();
+        List<Long> pageIds = ids.subList(0, Math.min(pageRequest.getPageSize(), ids.size()));
+
+        return Optional.of(new SliceImpl<>(findAllInOrder(pageIds), pageRequest, hasNext));
+    }
+
+    private List<Long> matchIds(String keywordType, String keyword, List<Long> candidates, boolean relevance) {
+
+        if (candidates.isEmpty()) return List.of();
 
         if (keywordType.equals("content")) {
-            return postRepository.findByAuthorAndContentLike(author, likeKeyword, pageRequest);
+            return relevance
+                    ? postRepository.findIdsByIdInAndContentContainingOrderByRelevance(candidates, keyword)
+                    : postRepository.findIdsByIdInAndContentContaining(candidates, keyword);
         }
 
-        return postRepository.findByAuthorAndTitleLike(author, likeKeyword, pageRequest);
+        return relevance
+                ? postRepository.findIdsByIdInAndTitleContainingOrderByRelevance(candidates, keyword)
+                : postRepository.findIdsByIdInAndTitleContaining(candidates, keyword);
+    }
+
+    private List<Post> findAllInOrder(List<Long> ids) {
+
+        Map<Long, Post> postsById = postRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return ids.stream()
+                .map(postsById::get)
+                .filter(post -> post != null)
+                .toList();
     }
 }
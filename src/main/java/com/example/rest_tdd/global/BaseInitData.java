@@ -2,6 +2,7 @@ package com.example.rest_tdd.global;
 
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.comment.service.CommentService;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import com.example.rest_tdd.domain.post.post.service.PostService;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ public class BaseInitData {
 
     private final PostService postService;
     private final MemberService memberService;
+    private final CommentService commentService;
 
     @Autowired
     @Lazy
@@ -57,11 +59,11 @@ public class BaseInitData {
         Member user2 = memberService.findByUsername("user2").get();
 
         Post post1 = postService.write(user1, "축구 하실 분 모집합니다.", "저녁 6시까지 모여주세요.", true, true);
-        post1.addComment(user1, "저 참석하겠습니다.");
-        post1.addComment(user2, "공격수 자리 있나요?");
+        commentService.write(post1, user1, "저 참석하겠습니다.");
+        commentService.write(post1, user2, "공격수 자리 있나요?");
 
         Post post2 = postService.write(user1, "농구하실분?", "3명 모집", true, false);
-        post2.addComment(user1, "저는 이미 축구하기로 함..");
+        commentService.write(post2, user1, "저는 이미 축구하기로 함..");
 
         postService.write(user2, "title3", "content3", false, true);
         postService.write(user1, "title4", "content4", true, true);
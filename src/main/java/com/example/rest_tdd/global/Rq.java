@@ -3,6 +3,7 @@ package com.example.rest_tdd.global;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.member.member.service.MemberService;
 import com.example.rest_tdd.global.exception.ServiceException;
+import com.example.rest_tdd.global.web.RsDataObservationConvention;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,8 @@ import java.util.Optional;
 @RequestScope
 public class Rq {
 
+    private static final ServiceException INVALID_API_KEY = new ServiceException("401-1", "잘못된 인증키입니다.", false);
+
     private final HttpServletRequest request;
     private final MemberService memberService;
 
@@ -23,12 +26,17 @@ public class Rq {
         String authorizationValue = request.getHeader("Authorization");
 
         String apiKey = authorizationValue.substring("Bearer ".length());
-        Optional<Member> opActor = memberService.findByApiKey(apiKey);
+        Optional<Member> opActor = memberService.findActorByApiKey(apiKey);
 
         if (opActor.isEmpty()) {
-            throw new ServiceException("401-1", "잘못된 인증키입니다.");
+            throw INVALID_API_KEY;
         }
 
         return opActor.get();
     }
+
+    // RsData 객체 없이 직렬화된 응답을 보낼 때 메트릭 태그용 결과 코드를 남긴다.
+    public void setResultCode(String code) {
+        request.setAttribute(RsDataObservationConvention.RESULT_CODE_ATTRIBUTE, code);
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.rest_tdd.global.advice;
+
+import com.example.rest_tdd.global.dto.RsData;
+import com.example.rest_tdd.global.web.RsDataObservationConvention;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// RsData 를 반환하는 컨트롤러의 응답 상태 코드를 RsData 의 코드로 맞추고, 메트릭 태그용으로 코드를 남긴다.
+// 컨트롤러를 프록시로 감싸지 않고, 응답 바디를 쓰기 직전에 한 번만 호출된다.
+// ResponseEntity<RsData> (GlobalExceptionHandler) 는 상태 코드가 이미 정해져 있으므로 코드만 남긴다.
+@RestControllerAdvice
+public class ResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class converterType) {
+        Class<?> type = returnType.getParameterType();
+
+        return RsData.class.isAssignableFrom(type) || ResponseEntity.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+
+        if (!(body instanceof RsData<?> rsData)) {
+            return body;
+        }
+
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(RsDataObservationConvention.RESULT_CODE_ATTRIBUTE, rsData.getCode());
+        }
+
+        if (RsData.class.isAssignableFrom(returnType.getParameterType())) {
+            response.setStatusCode(HttpStatusCode.valueOf(rsData.getStatusCode()));
+        }
+
+        return body;
+    }
+}
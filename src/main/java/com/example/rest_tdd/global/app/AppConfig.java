@@ -1,9 +0,0 @@
-package com.example.rest_tdd.global.app;
-
-public class AppConfig {
-
-    public static boolean isNotProd() {
-        return true;
-    }
-
-}
@@ -0,0 +1,75 @@
+package com.example.rest_tdd.global.app;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// custom.datasource.replica.url 이 있으면 readOnly 트랜잭션은 복제본, 나머지는 primary 로 보낸다.
+// 트랜잭션 매니저가 커넥션에 readOnly 를 표시한 뒤 첫 쿼리에서 실제 커넥션을 가져오므로 (LazyConnectionDataSourceProxy)
+// @Transactional(readOnly = true) 만으로 복제본을 탄다. 복제 지연이 있으므로 방금 쓴 데이터는 쓰기 트랜잭션 안에서 읽어야 한다.
+// 쓰기 후 비우고 다시 채우는 캐시(ActorCache, PostListCache)는 이전 값을 TTL 동안 들고 있지 않도록 primary 에서 채운다.
+@Configuration
+@ConditionalOnProperty("custom.datasource.replica.url")
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource() {
+
+        HikariDataSource dataSource = primaryDataSourceProperties()
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("custom.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("custom.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+
+        HikariDataSource dataSource = replicaDataSourceProperties()
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+
+        return dataSource;
+    }
+
+    // jdbc 쿼리 span 은 primary/replica 풀에서 기록한다. 이 프록시까지 감싸면 readOnly 가 표시되기 전에 커넥션을 가져와
+    // 라우팅이 깨지므로 datasource-micrometer 대상에서 뺀다. (jdbc.excluded-datasource-bean-names)
+    @Bean
+    @Primary
+    public DataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+
+        return dataSource;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.rest_tdd.global.app;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 클래스의 @Timed 를 처리한다.
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // 2차 캐시 region 별 JCache 통계를 cache.gets, cache.puts 등으로 노출한다. (application.conf 의 monitoring.statistics)
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            CacheImplementor cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+            CacheManager cacheManager = ((JCacheRegionFactory) cache.getRegionFactory()).getCacheManager();
+
+            for (String regionName : cache.getCacheRegionNames()) {
+                JCacheMetrics.monitor(registry, cacheManager.getCache(regionName));
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.rest_tdd.global.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// custom.sqlLog.sampleRate 가 있으면 Hibernate 가 실행하는 SQL 중 그 비율만큼만 INFO 로 남긴다.
+// 바인딩 값은 남기지 않는다. JdbcTemplate 로 직접 실행하는 SQL 은 대상이 아니다.
+@Configuration
+@ConditionalOnProperty("custom.sqlLog.sampleRate")
+public class SqlLogConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLogCustomizer(@Value("${custom.sqlLog.sampleRate}") double sampleRate) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlLogger(sampleRate));
+    }
+
+    @Slf4j
+    static class SampledSqlLogger implements StatementInspector {
+
+        private final double sampleRate;
+
+        SampledSqlLogger(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        @Override
+        public String inspect(String sql) {
+
+            if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info(sql);
+            }
+
+            return sql;
+        }
+    }
+}
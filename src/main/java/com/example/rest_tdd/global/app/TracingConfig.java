@@ -0,0 +1,39 @@
+package com.example.rest_tdd.global.app;
+
+import com.example.rest_tdd.global.tracing.FileSpanExporter;
+import com.example.rest_tdd.global.tracing.SlowTraceSpanProcessor;
+import com.example.rest_tdd.global.tracing.TracingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// span 은 OpenTelemetry SDK 로 만든다. SpanProcessor, SpanExporter 빈은 Spring Boot 가 TracerProvider 에 등록한다.
+// OTLP 수집기로 보내려면 opentelemetry-exporter-otlp 를 추가하고 management.otlp.tracing.endpoint 를 설정한다.
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public SlowTraceSpanProcessor slowTraceSpanProcessor(@Value("${custom.tracing.slowThresholdMillis:500}") long slowThresholdMillis) {
+        return new SlowTraceSpanProcessor(Duration.ofMillis(slowThresholdMillis));
+    }
+
+    @Bean
+    @ConditionalOnProperty("custom.tracing.export.file")
+    public FileSpanExporter fileSpanExporter(@Value("${custom.tracing.export.file}") String file) throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+
+    // 기본 Jackson 컨버터를 대신한다.
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, Tracer tracer) {
+        return new TracingJackson2HttpMessageConverter(objectMapper, tracer);
+    }
+}
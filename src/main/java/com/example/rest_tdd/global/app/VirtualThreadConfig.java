@@ -0,0 +1,22 @@
+package com.example.rest_tdd.global.app;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+// 가상 스레드(spring.threads.virtual.enabled, virtual 프로필)는 Java 21 이상에서만 동작한다.
+// 그보다 낮은 JVM 에서는 Spring Boot 가 설정을 무시하고 플랫폼 스레드로 뜨므로, 모르고 운영하지 않도록 시작을 막는다.
+@Configuration
+@ConditionalOnProperty("spring.threads.virtual.enabled")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+
+        int javaVersion = Runtime.version().feature();
+
+        if (javaVersion < 21) {
+            throw new IllegalStateException(
+                    "가상 스레드는 Java 21 이상이 필요합니다. (현재 Java %d, -PjavaVersion=21 로 실행)".formatted(javaVersion)
+            );
+        }
+    }
+}
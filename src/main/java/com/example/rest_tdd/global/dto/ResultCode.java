@@ -0,0 +1,41 @@
+package com.example.rest_tdd.global.dto;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// "200-1" 형태의 결과 코드. 처음 한 번만 파싱하고 이후에는 같은 인스턴스를 재사용한다.
+public record ResultCode(String code, int statusCode, int subCode) {
+
+    private static final Map<String, ResultCode> CACHE = new ConcurrentHashMap<>();
+
+    public static ResultCode of(String code) {
+
+        ResultCode resultCode = CACHE.get(code);
+
+        if (resultCode != null) {
+            return resultCode;
+        }
+
+        return CACHE.computeIfAbsent(code, ResultCode::parse);
+    }
+
+    private static ResultCode parse(String code) {
+
+        int dashIndex = code.indexOf('-');
+
+        if (dashIndex <= 0 || dashIndex == code.length() - 1) {
+            throw new IllegalArgumentException("잘못된 결과 코드입니다. : " + code);
+        }
+
+        return new ResultCode(
+                code,
+                Integer.parseInt(code, 0, dashIndex, 10),
+                Integer.parseInt(code, dashIndex + 1, code.length(), 10)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
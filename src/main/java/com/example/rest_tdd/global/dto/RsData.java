@@ -2,25 +2,39 @@ package com.example.rest_tdd.global.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 
-@AllArgsConstructor
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"code", "msg", "data"})
 public class RsData<T> {
-    private String code;
+    @JsonIgnore
+    private ResultCode resultCode;
     private String msg;
     private T data;
 
+    public RsData(ResultCode resultCode, String msg, T data) {
+        this.resultCode = resultCode;
+        this.msg = msg;
+        this.data = data;
+    }
+
+    public RsData(String code, String msg, T data) {
+        this(ResultCode.of(code), msg, data);
+    }
+
     public RsData(String code, String msg) {
         this(code, msg, null);
     }
 
+    public String getCode() {
+        return resultCode.code();
+    }
+
     @JsonIgnore
     public int getStatusCode() {
-        String statusCodeStr = code.split("-")[0];
-        return Integer.parseInt(statusCodeStr);
+        return resultCode.statusCode();
     }
 
 }
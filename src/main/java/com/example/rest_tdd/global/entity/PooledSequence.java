@@ -0,0 +1,18 @@
+package com.example.rest_tdd.global.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 엔티티별 시퀀스({테이블}_seq)를 allocationSize 단위(pooled)로 사용하는 id 생성기
+// JPA @SequenceGenerator 는 name 이 필수이고, name 을 주면 시퀀스 이름도 그 이름 하나로 고정되어 엔티티별 시퀀스를 쓸 수 없다.
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequence {
+    int allocationSize();
+}
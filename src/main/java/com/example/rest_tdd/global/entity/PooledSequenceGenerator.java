@@ -0,0 +1,24 @@
+package com.example.rest_tdd.global.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+// 시퀀스 이름은 Hibernate 기본 규칙({테이블}_seq)을 그대로 쓰고 increment 만 @PooledSequence 값으로 지정한다.
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    private final int allocationSize;
+
+    public PooledSequenceGenerator(PooledSequence config) {
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.rest_tdd.global.entity;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JDBC 로 직접 insert 할 때 쓰는 id.
+// BaseEntity 와 같은 시퀀스에서 같은 방식(pooled, 값 - ID_ALLOCATION_SIZE + 1 ~ 값)으로 블록을 받아 쓰므로 Hibernate 가 만든 id 와 겹치지 않는다.
+@Component
+public class SequenceIdAllocator {
+
+    private static class Block {
+        private long next = 1;
+        private long hi = 0;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    public List<Long> next(String sequenceName, int count) {
+
+        Block block = blocks.computeIfAbsent(sequenceName, k -> new Block());
+        List<Long> ids = new ArrayList<>(count);
+
+        synchronized (block) {
+            while (ids.size() < count) {
+                if (block.next > block.hi) {
+                    block.hi = jdbcTemplate.queryForObject(nextValueSql(sequenceName), Long.class);
+                    block.next = block.hi - BaseEntity.ID_ALLOCATION_SIZE + 1;
+                }
+
+                ids.add(block.next++);
+            }
+        }
+
+        return ids;
+    }
+
+    private String nextValueSql(String sequenceName) {
+
+        return sessionFactory.getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(sequenceName);
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.rest_tdd.global.exception;
 
-import com.example.rest_tdd.global.app.AppConfig;
+import com.example.rest_tdd.global.Rq;
 import com.example.rest_tdd.global.dto.RsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,9 +13,18 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final boolean prod;
+    private final Rq rq;
+
+    public GlobalExceptionHandler(Environment environment, Rq rq) {
+        this.prod = environment.matchesProfiles("prod");
+        this.rq = rq;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<RsData<Void>> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
 
@@ -34,19 +46,18 @@ public class GlobalExceptionHandler {
 
 
     @ExceptionHandler(ServiceException.class)
-    public ResponseEntity<RsData<Void>> ServiceExceptionHandle(ServiceException ex) {
+    public ResponseEntity<byte[]> ServiceExceptionHandle(ServiceException ex) {
+
+        // 예상된 실패(권한, 404 등)이므로 운영에서는 스택 트레이스를 남기지 않는다.
+        if(!prod) log.info("{} : {}", ex.getCode(), ex.getMsg(), ex);
 
-        // 개발 모드에서만 작동되도록.
-        if(AppConfig.isNotProd()) ex.printStackTrace();
+        // 미리 인코딩해 둔 본문을 쓰므로 ResponseAdvice 를 거치지 않는다. 메트릭 태그용 코드는 직접 남긴다.
+        rq.setResultCode(ex.getCode());
 
         return ResponseEntity
                 .status(ex.getStatusCode())
-                .body(
-                        new RsData<>(
-                                ex.getCode(),
-                                ex.getMsg()
-                        )
-                );
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ex.getBody());
     }
 
 }
@@ -0,0 +1,15 @@
+package com.example.rest_tdd.global.exception;
+
+// 여러 클래스에서 던지는 고정 메시지 예외. 메시지가 서로 달라지지 않도록 한 곳에 둔다.
+// 한 클래스에서만 쓰는 예외는 그 클래스의 상수로 둔다.
+public final class ServiceErrors {
+
+    public static final ServiceException UNAUTHENTICATED = new ServiceException("401-1", "인증 정보가 없습니다.", false);
+
+    // 글 API 와 댓글 API 는 기존 응답 메시지가 달라 각각 둔다.
+    public static final ServiceException POST_NOT_FOUND = new ServiceException("404-1", "존재하지 않는 글입니다.", false);
+    public static final ServiceException COMMENT_POST_NOT_FOUND = new ServiceException("404-1", "존재하지 않는 게시글입니다.", false);
+
+    private ServiceErrors() {
+    }
+}
@@ -1,14 +1,49 @@
 package com.example.rest_tdd.global.exception;
 
+import com.example.rest_tdd.global.dto.ResultCode;
 import com.example.rest_tdd.global.dto.RsData;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 
+import java.nio.charset.StandardCharsets;
+
+// 권한 없음, 없는 글 같은 예상된 실패는 스택 트레이스를 만들지 않는다. (4xx 기본, 코드별로 stackTrace 로 지정)
+// 스택 트레이스와 suppressed 가 없으면 상태가 바뀌지 않으므로 메시지가 고정된 예외는 상수로 만들어 재사용한다.
+// 상수의 스택 트레이스는 클래스 초기화 시점의 것이라 의미가 없으므로 상수는 코드와 상관없이 stackTrace 를 false 로 만든다.
 public class ServiceException extends RuntimeException {
 
-    private RsData<?> rsData;
+    private final RsData<Void> rsData;
+    private final byte[] body;
 
     public ServiceException(String code, String message) {
-        super(message);
+        this(code, message, ResultCode.of(code).statusCode() >= 500);
+    }
+
+    public ServiceException(String code, String message, boolean stackTrace) {
+        super(message, null, stackTrace, stackTrace);
         rsData = new RsData<>(code, message);
+        body = encode(code, message);
+    }
+
+    // RsData 직렬화 결과와 같은 {"code", "msg"} JSON. 상수로 만든 예외는 매 응답마다 다시 직렬화하지 않는다.
+    private static byte[] encode(String code, String message) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        StringBuilder sb = new StringBuilder("{\"code\":\"").append(encoder.quoteAsString(code)).append('"');
+        if (message != null) sb.append(",\"msg\":\"").append(encoder.quoteAsString(message)).append('"');
+
+        return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public RsData<Void> getRsData() {
+        return rsData;
+    }
+
+    // 응답 본문으로 그대로 쓴다. (수정하지 말 것)
+    public byte[] getBody() {
+        return body;
+    }
+
+    public ResultCode getResultCode() {
+        return rsData.getResultCode();
     }
 
     public String getCode() {
@@ -0,0 +1,67 @@
+package com.example.rest_tdd.global.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// controller 단계 span. 컨트롤러를 AOP 프록시로 감싸지 않도록 TracingAspect 대신 인터셉터로 만든다.
+// 응답 바디는 핸들러 안에서 쓰이므로 controller 단계에 직렬화(serialize) 시간도 포함된다.
+@RequiredArgsConstructor
+public class ControllerTracingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ATTRIBUTE = ControllerTracingInterceptor.class.getName() + ".span";
+
+    private record SpanAndScope(Span span, Tracer.SpanInScope scope) { }
+
+    private final Tracer tracer;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        // 비동기 응답(StreamingResponseBody)이 끝난 뒤의 재디스패치는 세지 않는다.
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        Span span = tracer.nextSpan()
+                .name(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName())
+                .tag(TracingAspect.PHASE, "controller")
+                .start();
+
+        request.setAttribute(ATTRIBUTE, new SpanAndScope(span, tracer.withSpan(span)));
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        end(request, ex);
+    }
+
+    // 비동기 처리로 넘어가면 afterCompletion 은 다른 스레드에서 불리므로 여기서 끝낸다.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        end(request, null);
+    }
+
+    private void end(HttpServletRequest request, Exception ex) {
+
+        if (!(request.getAttribute(ATTRIBUTE) instanceof SpanAndScope spanAndScope)) {
+            return;
+        }
+
+        request.removeAttribute(ATTRIBUTE);
+        spanAndScope.scope().close();
+
+        if (ex != null) {
+            spanAndScope.span().error(ex);
+        }
+
+        spanAndScope.span().end();
+    }
+}
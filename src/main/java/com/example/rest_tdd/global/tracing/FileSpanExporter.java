@@ -0,0 +1,106 @@
+package com.example.rest_tdd.global.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+// span 을 한 줄에 하나씩 JSON(NDJSON)으로 파일에 남긴다. OTLP 수집기 대신 로컬에서 쓰는 용도로 필드 이름은 OTLP 를 따른다.
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final Path path;
+    private final OutputStream out;
+    private final JsonGenerator generator;
+
+    public FileSpanExporter(Path path) throws IOException {
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        this.path = path;
+        this.out = new BufferedOutputStream(Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        this.generator = new JsonFactory().createGenerator(out, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+
+        try {
+            for (SpanData span : spans) {
+                write(span);
+            }
+
+            generator.flush();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("span 을 {} 에 쓰지 못했습니다.", path, e);
+
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void write(SpanData span) throws IOException {
+
+        generator.writeStartObject();
+        generator.writeStringField("traceId", span.getTraceId());
+        generator.writeStringField("spanId", span.getSpanId());
+
+        if (span.getParentSpanContext().isValid()) {
+            generator.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+
+        generator.writeStringField("name", span.getName());
+        generator.writeStringField("kind", span.getKind().name());
+        generator.writeNumberField("startTimeUnixNano", span.getStartEpochNanos());
+        generator.writeNumberField("endTimeUnixNano", span.getEndEpochNanos());
+
+        generator.writeObjectFieldStart("attributes");
+        for (var entry : span.getAttributes().asMap().entrySet()) {
+            generator.writeStringField(entry.getKey().getKey(), String.valueOf(entry.getValue()));
+        }
+        generator.writeEndObject();
+
+        generator.writeStringField("status", span.getStatus().getStatusCode().name());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+
+        try {
+            generator.flush();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+
+        try {
+            generator.close();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
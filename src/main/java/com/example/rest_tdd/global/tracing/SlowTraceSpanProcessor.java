@@ -0,0 +1,186 @@
+package com.example.rest_tdd.global.tracing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+// root span(보통 http 요청)이 threshold 보다 오래 걸렸으면 단계별 소요 시간과 span 트리를 WARN 으로 남긴다.
+// 자식 span 은 root 보다 먼저 끝나므로 root 가 끝날 때까지 traceId 별로 모아 둔다.
+// root 가 끝나지 않은 trace(비동기로 이어지는 작업 등)는 1분 뒤 버린다.
+@Slf4j
+public class SlowTraceSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> PHASE = AttributeKey.stringKey(TracingAspect.PHASE);
+    private static final AttributeKey<String> QUERY = AttributeKey.stringKey("jdbc.query[0]");
+    private static final int RECENT_SIZE = 100;
+
+    public record SlowTrace(String traceId, String name, long durationNanos, Map<String, Long> phaseNanos, String detail) {
+    }
+
+    private final long thresholdNanos;
+    private final Cache<String, Queue<SpanData>> pending;
+    private final Deque<SlowTrace> recent = new ConcurrentLinkedDeque<>();
+
+    public SlowTraceSpanProcessor(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+        this.pending = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(1, TimeUnit.MINUTES)
+                .build();
+    }
+
+    // 최근에 느렸던 요청. 오래된 것부터 버린다.
+    public List<SlowTrace> getRecent() {
+        return List.copyOf(recent);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+
+        SpanData data = span.toSpanData();
+
+        if (data.getParentSpanContext().isValid() && !data.getParentSpanContext().isRemote()) {
+            pending.get(data.getTraceId(), traceId -> new ConcurrentLinkedQueue<>()).add(data);
+            return;
+        }
+
+        Queue<SpanData> children = pending.asMap().remove(data.getTraceId());
+        long duration = data.getEndEpochNanos() - data.getStartEpochNanos();
+
+        if (duration < thresholdNanos) {
+            return;
+        }
+
+        List<SpanData> spans = new ArrayList<>();
+        spans.add(data);
+
+        if (children != null) {
+            spans.addAll(children);
+        }
+
+        SlowTrace slowTrace = new SlowTrace(data.getTraceId(), data.getName(), duration, phaseNanos(spans), tree(data, spans));
+
+        recent.addLast(slowTrace);
+        while (recent.size() > RECENT_SIZE) {
+            recent.pollFirst();
+        }
+
+        log.warn("느린 요청 {} {}ms (traceId={}) 단계별 {}\n{}",
+                slowTrace.name(), millis(duration), slowTrace.traceId(), format(slowTrace.phaseNanos()), slowTrace.detail());
+    }
+
+    // 단계별 합계. 같은 단계가 중첩되면(서비스가 서비스를 부르는 경우) 바깥 span 만 센다.
+    private Map<String, Long> phaseNanos(List<SpanData> spans) {
+
+        Map<String, SpanData> bySpanId = new HashMap<>();
+        spans.forEach(span -> bySpanId.put(span.getSpanId(), span));
+
+        Map<String, Long> phaseNanos = new LinkedHashMap<>();
+
+        spans.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .filter(span -> !hasAncestorOfSamePhase(span, bySpanId))
+                .forEach(span -> phaseNanos.merge(phase(span), span.getEndEpochNanos() - span.getStartEpochNanos(), Long::sum));
+
+        return phaseNanos;
+    }
+
+    private boolean hasAncestorOfSamePhase(SpanData span, Map<String, SpanData> bySpanId) {
+
+        String phase = phase(span);
+        SpanData parent = bySpanId.get(span.getParentSpanId());
+
+        while (parent != null) {
+            if (phase(parent).equals(phase)) {
+                return true;
+            }
+
+            parent = bySpanId.get(parent.getParentSpanId());
+        }
+
+        return false;
+    }
+
+    // root 기준 시작 시점(+ms), 소요 시간, 단계, 이름(단계와 다를 때만). 쿼리 span 은 SQL 도 붙인다.
+    private String tree(SpanData root, List<SpanData> spans) {
+
+        Map<String, List<SpanData>> childrenByParentId = new HashMap<>();
+        spans.forEach(span -> childrenByParentId.computeIfAbsent(span.getParentSpanId(), id -> new ArrayList<>()).add(span));
+        childrenByParentId.values().forEach(children -> children.sort(Comparator.comparingLong(SpanData::getStartEpochNanos)));
+
+        StringBuilder sb = new StringBuilder();
+        appendTree(sb, root, root.getStartEpochNanos(), 1, childrenByParentId);
+
+        return sb.toString();
+    }
+
+    private void appendTree(StringBuilder sb, SpanData span, long rootStart, int depth, Map<String, List<SpanData>> childrenByParentId) {
+
+        sb.append("  ".repeat(depth))
+                .append('+').append(millis(span.getStartEpochNanos() - rootStart)).append("ms ")
+                .append(millis(span.getEndEpochNanos() - span.getStartEpochNanos())).append("ms ")
+                .append(phase(span));
+
+        if (!phase(span).equals(span.getName())) {
+            sb.append(' ').append(span.getName());
+        }
+
+        String query = span.getAttributes().get(QUERY);
+
+        if (query != null) {
+            sb.append(" : ").append(query.length() > 200 ? query.substring(0, 200) + "..." : query);
+        }
+
+        sb.append('\n');
+
+        for (SpanData child : childrenByParentId.getOrDefault(span.getSpanId(), List.of())) {
+            appendTree(sb, child, rootStart, depth + 1, childrenByParentId);
+        }
+    }
+
+    // 직접 만든 span 은 app.phase, 나머지(http, jdbc)는 span 이름을 단계로 본다.
+    private String phase(SpanData span) {
+
+        String phase = span.getAttributes().get(PHASE);
+
+        return phase != null ? phase : span.getName();
+    }
+
+    private String format(Map<String, Long> phaseNanos) {
+
+        StringJoiner joiner = new StringJoiner(", ");
+        phaseNanos.forEach((phase, nanos) -> joiner.add(phase + "=" + millis(nanos) + "ms"));
+
+        return joiner.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+}
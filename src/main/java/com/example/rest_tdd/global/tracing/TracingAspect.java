@@ -0,0 +1,65 @@
+package com.example.rest_tdd.global.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 요청 하나를 auth, service, search, repository 단계의 span 으로 나눈다.
+// http 요청 span 은 Spring MVC, controller span 은 ControllerTracingInterceptor, jdbc 쿼리 span 은 datasource-micrometer,
+// 직렬화 span 은 TracingJackson2HttpMessageConverter 가 만든다. (컨트롤러는 프록시로 감싸지 않는다.)
+// 트랜잭션 커밋 시간도 service 단계에 들어가도록 @Transactional 보다 바깥에서 감싼다.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    public static final String PHASE = "app.phase";
+
+    private final Tracer tracer;
+
+    @Around("execution(* com.example.rest_tdd.global.Rq.getAuthenticateActor(..))")
+    public Object auth(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("auth", joinPoint.getSignature().getDeclaringType(), joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("service", joinPoint.getSignature().getDeclaringType(), joinPoint);
+    }
+
+    @Around("execution(* com.example.rest_tdd.domain.post.post.search.PostSearchIndex.search*(..))")
+    public Object search(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("search", joinPoint.getSignature().getDeclaringType(), joinPoint);
+    }
+
+    // findById 처럼 상속받은 메서드도 CrudRepository 가 아니라 PostRepository 로 이름 붙인다.
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace("repository", AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())[0], joinPoint);
+    }
+
+    private Object trace(String phase, Class<?> type, ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Span span = tracer.nextSpan()
+                .name(type.getSimpleName() + "." + joinPoint.getSignature().getName())
+                .tag(PHASE, phase)
+                .start();
+
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
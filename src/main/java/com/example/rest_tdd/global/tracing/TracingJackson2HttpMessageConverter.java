@@ -0,0 +1,39 @@
+package com.example.rest_tdd.global.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// 응답 본문 직렬화 구간을 serialize span 으로 남긴다.
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Tracer tracer;
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper, Tracer tracer) {
+        super(objectMapper);
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+
+        Span span = tracer.nextSpan()
+                .name("serialize")
+                .tag(TracingAspect.PHASE, "serialize")
+                .start();
+
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            super.writeInternal(object, type, outputMessage);
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.rest_tdd.global.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Slf4j
+public final class Transactions {
+
+    private Transactions() {
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 실행한다. (색인, 캐시처럼 롤백되면 안 되는 반영)
+    public static void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // rows 를 한 트랜잭션으로 처리한다. 실패하면 한 건씩 각자의 트랜잭션으로 다시 시도하고, 그래도 실패한 건만 onRowFailure 로 넘긴다.
+    // 예) JDBC batch insert 중 한 건이 컬럼 길이를 넘거나, 그 사이 참조하는 글이 삭제된 경우
+    public static <T> void executeWithRowRetry(TransactionTemplate transactionTemplate,
+                                               List<T> rows,
+                                               Consumer<List<T>> action,
+                                               BiConsumer<T, DataAccessException> onRowFailure) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> action.accept(rows));
+        } catch (DataAccessException e) {
+            log.warn("batch 처리 실패, {}건을 한 건씩 다시 시도합니다. : {}", rows.size(), e.getMessage());
+
+            for (T row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> action.accept(List.of(row)));
+                } catch (DataAccessException ex) {
+                    onRowFailure.accept(row, ex);
+                }
+            }
+        }
+    }
+}
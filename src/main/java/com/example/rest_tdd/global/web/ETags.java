@@ -0,0 +1,37 @@
+package com.example.rest_tdd.global.web;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+// 조건부 GET(If-None-Match / If-Modified-Since) 용 ETag, Last-Modified 계산
+public class ETags {
+
+    // 응답 내용이 바뀌면 함께 바뀌는 값들(id, 수정일 등)로 만든 strong ETag
+    public static String of(Object... versionParts) {
+
+        StringJoiner joiner = new StringJoiner("|");
+
+        for (Object part : versionParts) {
+            joiner.add(String.valueOf(part));
+        }
+
+        return DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long toEpochMilli(LocalDateTime... dates) {
+
+        LocalDateTime latest = null;
+
+        for (LocalDateTime date : dates) {
+            if (date != null && (latest == null || date.isAfter(latest))) {
+                latest = date;
+            }
+        }
+
+        return latest == null ? -1 : latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.rest_tdd.global.web;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+// http.server.requests 에 RsData 결과 코드(code) 태그를 붙인다. (예: 200-1, 403-1)
+// RsData 가 아닌 응답(예외로 끝난 요청, actuator 등)은 none.
+@Component
+public class RsDataObservationConvention extends DefaultServerRequestObservationConvention {
+
+    public static final String RESULT_CODE_ATTRIBUTE = RsDataObservationConvention.class.getName() + ".code";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+
+        Object code = context.getCarrier().getAttribute(RESULT_CODE_ATTRIBUTE);
+
+        return super.getLowCardinalityKeyValues(context)
+                .and("code", code == null ? "none" : code.toString());
+    }
+}
@@ -0,0 +1,49 @@
+-- 초기 스키마. 기존 ddl-auto 로 만들어진 스키마와 같다. (baseline 1)
+
+create table member
+(
+    id            bigint generated by default as identity primary key,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    username      varchar(100),
+    password      varchar(100),
+    api_key       varchar(100),
+    nickname      varchar(100),
+    constraint uk_member_username unique (username),
+    constraint uk_member_api_key unique (api_key)
+);
+
+create table post
+(
+    id            bigint generated by default as identity primary key,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    author_id     bigint,
+    title         varchar(255),
+    content       varchar(255),
+    published     boolean not null,
+    listed        boolean not null,
+    comment_count bigint default 0 not null
+);
+
+create table comment
+(
+    id            bigint generated by default as identity primary key,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    author_id     bigint,
+    post_id       bigint,
+    content       varchar(255)
+);
+
+-- 엔티티의 @Table(indexes) 와 같은 이름을 쓴다.
+create index idx_post_listed_id on post (listed, id);
+create index idx_post_author_id_id on post (author_id, id);
+create index idx_comment_post_id_id on comment (post_id, id);
+
+alter table post
+    add constraint fk_post_author foreign key (author_id) references member (id);
+alter table comment
+    add constraint fk_comment_post foreign key (post_id) references post (id);
+alter table comment
+    add constraint fk_comment_author foreign key (author_id) references member (id);
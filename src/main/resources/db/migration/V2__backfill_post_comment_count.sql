@@ -0,0 +1,12 @@
+-- ddl-auto 로 만들어진 기존 DB 는 V1 을 건너뛰므로(baseline 1), 그 뒤에 추가된 컬럼과 인덱스가 없을 수 있다.
+-- 없는 것만 V1 과 같게 추가한다. (새 DB 에서는 변화 없음)
+alter table post add column if not exists comment_count bigint default 0 not null;
+
+alter table member add constraint if not exists uk_member_api_key unique (api_key);
+create index if not exists idx_post_listed_id on post (listed, id);
+create index if not exists idx_post_author_id_id on post (author_id, id);
+create index if not exists idx_comment_post_id_id on comment (post_id, id);
+
+-- comment_count 컬럼이 생기기 전에 달린 댓글 수를 채운다. (새 DB 에서는 변화 없음)
+update post
+set comment_count = (select count(*) from comment c where c.post_id = post.id);
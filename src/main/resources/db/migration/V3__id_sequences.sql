@@ -0,0 +1,12 @@
+-- id 를 IDENTITY 대신 시퀀스로 만든다. (BaseEntity, allocationSize 50)
+-- Hibernate pooled optimizer 는 시퀀스 값을 할당 블록의 끝으로 보고 (값 - 49) ~ 값 을 쓰므로,
+-- 기존 최대 id + 50 에서 시작해야 기존 id 와 겹치지 않는다.
+
+create sequence member_seq start with (select coalesce(max(id), 0) + 50 from member) increment by 50;
+create sequence post_seq start with (select coalesce(max(id), 0) + 50 from post) increment by 50;
+create sequence comment_seq start with (select coalesce(max(id), 0) + 50 from comment) increment by 50;
+
+-- JDBC 로 직접 insert 하는 곳도 시퀀스를 쓰도록 IDENTITY 를 없앤다. (id 없이 insert 하면 실패)
+alter table member alter column id drop identity;
+alter table post alter column id drop identity;
+alter table comment alter column id drop identity;
@@ -0,0 +1,2 @@
+-- 댓글이 달리거나 삭제된 시각. 글의 수정일(modified_date)은 바꾸지 않고 단건 조회의 Last-Modified 에만 쓴다.
+alter table post add column comment_modified_date timestamp(6);
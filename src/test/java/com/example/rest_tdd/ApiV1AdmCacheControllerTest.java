@@ -0,0 +1,116 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.adm.adm.controller.ApiV1AdmCacheController;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+public class ApiV1AdmCacheControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ResultActions regionsRequest(String apiKey) throws Exception {
+
+        return mvc.perform(
+                        get("/api/v1/adm/cache/regions")
+                                .header("Authorization", "Bearer " + apiKey)
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("2차 캐시 region 통계 조회")
+    void regions1() throws Exception {
+
+        ResultActions resultActions = regionsRequest("admin");
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1AdmCacheController.class))
+                .andExpect(handler().methodName("getRegions"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data[*].regionName").value(hasItems("member", "post", "comment", "postComments")))
+                .andExpect(jsonPath("$.data[0].hitRatio").isNumber());
+    }
+
+    @Test
+    @DisplayName("2차 캐시 region 통계 조회 - 관리자가 아닌 경우")
+    void regions2() throws Exception {
+
+        ResultActions resultActions = regionsRequest("user1");
+
+        resultActions.andExpect(status().isForbidden())
+                .andExpect(handler().handlerType(ApiV1AdmCacheController.class))
+                .andExpect(handler().methodName("getRegions"))
+                .andExpect(jsonPath("$.code").value("403-1"))
+                .andExpect(jsonPath("$.msg").value("관리자만 조회할 수 있습니다."));
+    }
+
+    @Test
+    @DisplayName("2차 캐시 region 통계 조회 - Hibernate 통계 수집이 꺼져 있어도(prod) JCache 통계로 나온다.")
+    void regions3() throws Exception {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(false);
+
+        try {
+            long hitCount = postHitCount();
+
+            // 영속성 컨텍스트가 달라야 2차 캐시를 거친다.
+            for (int i = 0; i < 2; i++) {
+                EntityManager entityManager = entityManagerFactory.createEntityManager();
+                try {
+                    entityManager.find(Post.class, 1L);
+                } finally {
+                    entityManager.close();
+                }
+            }
+
+            assertThat(postHitCount()).isGreaterThan(hitCount);
+        } finally {
+            statistics.setStatisticsEnabled(true);
+        }
+    }
+
+    private long postHitCount() throws Exception {
+
+        String body = regionsRequest("admin")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        List<Number> hitCounts = JsonPath.read(body, "$.data[?(@.regionName == 'post')].hitCount");
+
+        return hitCounts.get(0).longValue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.adm.adm.controller.ApiV1AdmPostController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+public class ApiV1AdmPostControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ResultActions exportRequest(String apiKey) throws Exception {
+
+        return mvc.perform(
+                        get("/api/v1/adm/posts/export")
+                                .header("Authorization", "Bearer " + apiKey)
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - 공개 목록 글을 댓글과 함께 한 줄에 하나씩")
+    void export1() throws Exception {
+
+        MvcResult mvcResult = exportRequest("admin")
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        List<String> lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+
+        // 2번 글은 목록 비공개
+        assertThat(lines).hasSize(8);
+
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("post").get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("post").get("content").asText()).isEqualTo("저녁 6시까지 모여주세요.");
+        assertThat(first.get("comments")).hasSize(2);
+        assertThat(first.get("comments").get(0).get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("comments").get(1).get("authorName").asText()).isEqualTo("유저2");
+
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("post").get("id").asLong()).isEqualTo(3);
+        assertThat(second.get("comments")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("글 내보내기 - 관리자가 아닌 경우")
+    void export2() throws Exception {
+
+        ResultActions resultActions = exportRequest("user1");
+
+        resultActions.andExpect(status().isForbidden())
+                .andExpect(handler().handlerType(ApiV1AdmPostController.class))
+                .andExpect(handler().methodName("export"))
+                .andExpect(jsonPath("$.code").value("403-1"))
+                .andExpect(jsonPath("$.msg").value("관리자만 내보낼 수 있습니다."));
+    }
+}
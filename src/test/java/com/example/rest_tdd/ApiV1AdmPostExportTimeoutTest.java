@@ -0,0 +1,74 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.post.post.service.PostExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// 실제 서버(Tomcat)에서 컨테이너 기본 비동기 제한 시간보다 오래 걸리는 내보내기가 끊기지 않는지 확인한다.
+// 컨테이너 기본값을 0.5초로 줄이고, 내보내기는 1.5초 동안 나눠 쓴다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ApiV1AdmPostExportTimeoutTest {
+
+    @TestConfiguration
+    static class ShortContainerAsyncTimeout {
+
+        @Bean
+        public WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(500));
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockitoBean
+    private PostExportService postExportService;
+
+    @Test
+    @DisplayName("글 내보내기 - 컨테이너 기본 제한 시간보다 오래 걸려도 끝까지 내려받음")
+    void exportLongerThanContainerTimeout() throws Exception {
+
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+
+            for (int i = 1; i <= 3; i++) {
+                out.write("{\"post\":{\"id\":%d}}\n".formatted(i).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                Thread.sleep(500);
+            }
+
+            return 3L;
+        }).when(postExportService).exportListed(any());
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                RequestEntity.get("/api/v1/adm/posts/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer admin")
+                        .build(),
+                String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().lines()).hasSize(3);
+    }
+}
@@ -2,14 +2,19 @@ package com.example.rest_tdd;
 
 import com.example.rest_tdd.domain.post.comment.controller.ApiV1CommentController;
 import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.comment.service.CommentService;
 import com.example.rest_tdd.domain.post.post.entity.Post;
 import com.example.rest_tdd.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -17,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +39,19 @@ public class ApiV1CommentControllerTest {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long commentCountInDb(long postId) {
+        return jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, postId);
+    }
+
     @Test
     @DisplayName("댓글 작성")
     void write() throws Exception {
@@ -58,7 +77,7 @@ public class ApiV1CommentControllerTest {
                 .andDo(print());
 
         Post post = postService.getItem(postId).get();
-        Comment comment = post.getLatestComment();
+        Comment comment = commentService.getLatestItem(post).get();
 
         resultActions.andExpect(status().isCreated())
                 .andExpect(handler().handlerType(ApiV1CommentController.class))
@@ -67,6 +86,91 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.msg").value("%d번 댓글 작성이 완료되었습니다.".formatted(comment.getId())));
     }
 
+    @Test
+    @DisplayName("댓글 작성 - 게시글의 댓글 수가 증가")
+    void write2() throws Exception {
+
+        long postId = 1;
+
+        assertThat(commentCountInDb(postId)).isEqualTo(2);
+
+        mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer user2")
+                                .content("""
+                                        {
+                                            "content": "댓글 내용"
+                                        }
+                                        """.stripIndent())
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andExpect(status().isCreated());
+
+        assertThat(commentCountInDb(postId)).isEqualTo(3);
+
+        mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentCount").value(3));
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 댓글 수를 갱신할 때 flush 하지 않음 (댓글 insert 를 모아서 실행)")
+    void write3() {
+
+        long postId = 1;
+        Post post = postService.getItem(postId).get();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        commentService.write(post, post.getAuthor(), "댓글 1");
+        commentService.write(post, post.getAuthor(), "댓글 2");
+
+        assertThat(statistics.getFlushCount()).isZero();
+        assertThat(commentCountInDb(postId)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 같은 트랜잭션에서 저장한 글도 댓글 수가 증가")
+    void write4() {
+
+        Post post = postService.getItem(1).get();
+        Post newPost = postService.write(post.getAuthor(), "새 글", "새 글 내용", true, true);
+
+        commentService.write(newPost, post.getAuthor(), "댓글");
+
+        assertThat(commentCountInDb(newPost.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 내용이 비어 있으면 400")
+    void write5() throws Exception {
+
+        long postId = 1;
+
+        mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer user1")
+                                .content("""
+                                        {
+                                            "content": ""
+                                        }
+                                        """.stripIndent())
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("content : NotBlank : must not be blank"));
+
+        assertThat(commentCountInDb(postId)).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("댓글 수정")
     void modify() throws Exception {
@@ -93,7 +197,7 @@ public class ApiV1CommentControllerTest {
                 .andDo(print());
 
         Post post = postService.getItem(postId).get();
-        Comment comment = post.getLatestComment();
+        Comment comment = commentService.getLatestItem(post).get();
 
         resultActions.andExpect(status().isOk())
                 .andExpect(handler().handlerType(ApiV1CommentController.class))
@@ -123,6 +227,43 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.msg").value("%d번 댓글 삭제가 완료되었습니다.".formatted(commentId)));
     }
 
+    @Test
+    @DisplayName("댓글 삭제 - 게시글의 댓글 수가 감소")
+    void delete2() throws Exception {
+
+        long postId = 1;
+        long commentId = 1;
+
+        mvc.perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+                                .header("Authorization", "Bearer user1")
+                )
+                .andExpect(status().isOk());
+
+        assertThat(commentCountInDb(postId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - 이미 삭제된 댓글이면 댓글 수가 줄지 않음")
+    void delete3() {
+
+        long postId = 1;
+
+        Post post = postService.getItem(postId).get();
+        Comment comment = commentService.getItem(post, 1).get();
+
+        commentService.delete(post, comment);
+        commentService.delete(post, comment);
+
+        assertThat(commentCountInDb(postId)).isEqualTo(1);
+
+        // 댓글 컬렉션이 로딩된 경우
+        post.getComments().size();
+        commentService.delete(post, comment);
+
+        assertThat(commentCountInDb(postId)).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("댓글 다건 조회")
     void items() throws Exception{
@@ -140,4 +281,124 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[1].id").value(2));
     }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 작성자 정보까지 게시글 조회 1번 + 댓글 조회 1번으로 조회")
+    void items2() throws Exception {
+
+        long postId = 1;
+
+        // 2차 캐시를 비워서 캐시 없이 실행되는 쿼리 수를 확인
+        entityManagerFactory.getCache().evictAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].authorName").exists());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 페이징, 커서 기반 페이징")
+    void items3() throws Exception {
+
+        long postId = 1;
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?page=2&pageSize=1".formatted(postId))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2));
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?after=1&pageSize=10".formatted(postId))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 페이징 파라미터가 없으면 전체 조회")
+    void items5() throws Exception {
+
+        long postId = 1;
+        Post post = postService.getItem(postId).get();
+
+        for (int i = 0; i < 31; i++) {
+            commentService.write(post, post.getAuthor(), "댓글 %d".formatted(i));
+        }
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(33));
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?page=1".formatted(postId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(30));
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회 - 다른 게시글의 댓글은 조회되지 않음")
+    void item2() throws Exception {
+
+        long postId = 2;
+        long commentId = 1;
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+                )
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(jsonPath("$.code").value("404-1"))
+                .andExpect(jsonPath("$.msg").value("존재하지 않는 댓글입니다."));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 변경되지 않았으면 304")
+    void items4() throws Exception {
+
+        long postId = 1;
+
+        String eTag = mvc.perform(get("/api/v1/posts/%d/comments".formatted(postId)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(content().string(""));
+
+        // 다른 페이지는 같은 ETag 로 304 가 되면 안 됨.
+        mvc.perform(
+                        get("/api/v1/posts/%d/comments?pageSize=1".formatted(postId))
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
 }
@@ -0,0 +1,174 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.post.comment.controller.ApiV1CommentController;
+import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.comment.repository.CommentRepository;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 쓰기 버퍼는 별도 스레드에서 커밋하므로 테스트 트랜잭션으로 롤백되지 않는다. 작성한 댓글은 직접 지운다.
+@SpringBootTest(properties = "custom.comment.writeBehind.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class ApiV1CommentWriteBehindTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @MockitoSpyBean
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Comment> writtenComments = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll(writtenComments);
+        writtenComments.forEach(comment -> postService.increaseCommentCount(comment.getPost().getId(), -1));
+    }
+
+    private Comment awaitComment(long commentId) throws InterruptedException {
+
+        for (int i = 0; i < 100; i++) {
+            Optional<Comment> comment = commentRepository.findById(commentId);
+
+            if (comment.isPresent()) return comment.get();
+
+            Thread.sleep(50);
+        }
+
+        throw new AssertionError("%d번 댓글이 저장되지 않았습니다.".formatted(commentId));
+    }
+
+    private long commentId(ResultActions resultActions) throws Exception {
+
+        String msg = resultActions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        Matcher matcher = Pattern.compile("(\\d+)번 댓글 작성이 완료되었습니다.").matcher(msg);
+        assertThat(matcher.find()).isTrue();
+
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private ResultActions writeRequest(long postId, String apiKey, String content) throws Exception {
+
+        return mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer " + apiKey)
+                                .content("""
+                                        {
+                                            "content": "%s"
+                                        }
+                                        """
+                                        .formatted(content)
+                                        .stripIndent())
+                                .contentType(
+                                        new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8)
+                                )
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 쓰기 버퍼")
+    void write() throws Exception {
+
+        long postId = 2;
+        String apiKey = "user1";
+        String content = "버퍼 댓글 내용";
+        long commentCount = postService.getItem(postId).get().getCommentCount();
+
+        ResultActions resultActions = writeRequest(postId, apiKey, content);
+
+        resultActions.andExpect(status().isCreated())
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("write"))
+                .andExpect(jsonPath("$.code").value("201-1"));
+
+        long commentId = commentId(resultActions);
+
+        // 응답 후에 저장되므로 저장될 때까지 기다린다.
+        Comment comment = awaitComment(commentId);
+        writtenComments.add(comment);
+        assertThat(comment.getContent()).isEqualTo(content);
+        assertThat(comment.getCreatedDate()).isNotNull();
+        // 댓글 insert 와 같은 트랜잭션에서 증가한다. (2차 캐시는 커밋 직후 비워지므로 DB 값으로 확인)
+        assertThat(jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, postId))
+                .isEqualTo(commentCount + 1);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 쓰기 버퍼 - 없는 글")
+    void write2() throws Exception {
+
+        ResultActions resultActions = writeRequest(100000, "user1", "버퍼 댓글 내용");
+
+        resultActions.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("404-1"))
+                .andExpect(jsonPath("$.msg").value("존재하지 않는 게시글입니다."));
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 쓰기 버퍼 - 내용이 컬럼 길이를 넘으면 큐에 넣기 전에 400")
+    void write3() throws Exception {
+
+        ResultActions resultActions = writeRequest(2, "user1", "가".repeat(256));
+
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("content : Size : size must be between 0 and 255"));
+    }
+
+    @Test
+    @DisplayName("댓글 작성 - 쓰기 버퍼 - 한 batch 가 예외로 실패해도 이후 댓글은 저장")
+    void write4() throws Exception {
+
+        // 첫 batch 의 트랜잭션 안에서 DataAccessException 이 아닌 예외를 낸다. (예: 커넥션 풀 고갈)
+        doThrow(new CannotCreateTransactionException("커넥션을 얻지 못했습니다."))
+                .doCallRealMethod()
+                .when(postService).increaseCommentCount(anyLong(), anyInt());
+
+        long failedCommentId = commentId(writeRequest(2, "user1", "실패할 댓글 내용").andExpect(status().isCreated()));
+
+        // 다음 댓글이 같은 batch 에 묶이지 않도록 첫 batch 가 실패할 때까지 기다린다.
+        verify(postService, timeout(5000)).increaseCommentCount(anyLong(), anyInt());
+
+        long commentId = commentId(writeRequest(2, "user1", "버퍼 댓글 내용").andExpect(status().isCreated()));
+
+        Comment comment = awaitComment(commentId);
+        writtenComments.add(comment);
+        assertThat(comment.getContent()).isEqualTo("버퍼 댓글 내용");
+        assertThat(commentRepository.findById(failedCommentId)).isEmpty();
+    }
+}
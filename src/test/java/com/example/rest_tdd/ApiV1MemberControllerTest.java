@@ -1,8 +1,10 @@
 package com.example.rest_tdd;
 
+import com.example.rest_tdd.domain.member.member.cache.ActorCache;
 import com.example.rest_tdd.domain.member.member.controller.ApiV1MemberController;
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.member.member.service.MemberService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +14,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.nio.charset.StandardCharsets;
 
@@ -36,6 +41,15 @@ public class ApiV1MemberControllerTest {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private ActorCache actorCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private void checkMember(ResultActions resultActions, Member member) throws Exception {
 
         resultActions.andExpect(jsonPath("$.data").exists())
@@ -163,8 +177,8 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.data").exists())
                 .andExpect(jsonPath("$.data.item.id").value(member.getId()))
                 .andExpect(jsonPath("$.data.item.nickname").value(member.getNickname()))
-                .andExpect(jsonPath("$.data.item.createdDate").value(member.getCreatedDate().toString()))
-                .andExpect(jsonPath("$.data.item.modifiedDate").value(member.getModifiedDate().toString()))
+                .andExpect(jsonPath("$.data.item.createdDate").value(matchesPattern(member.getCreatedDate().toString().replaceAll("0+$", "") + ".*")))
+                .andExpect(jsonPath("$.data.item.modifiedDate").value(matchesPattern(member.getModifiedDate().toString().replaceAll("0+$", "") + ".*")))
                 .andExpect(jsonPath("$.data.apiKey").exists());
     }
 
@@ -276,4 +290,53 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.code").value("401-1"))
                 .andExpect(jsonPath("$.msg").value("잘못된 인증키입니다."));
     }
+
+    @Test
+    @DisplayName("내 정보 조회 - 두번째 요청부터는 인증 캐시 사용")
+    void me3() throws Exception {
+
+        String apiKey = "user1";
+        actorCache.evictAll();
+
+        long hitCount = actorCache.stats().hitCount();
+        long missCount = actorCache.stats().missCount();
+
+        meRequest(apiKey).andExpect(status().isOk());
+        meRequest(apiKey).andExpect(status().isOk());
+
+        assertThat(actorCache.stats().missCount()).isEqualTo(missCount + 1);
+        assertThat(actorCache.stats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    // 커밋 여부를 확인해야 하므로 테스트 트랜잭션 밖에서 실행하고 apiKey 를 되돌린다.
+    @Test
+    @DisplayName("apiKey 변경 - 커밋된 뒤에 이전 apiKey 가 인증 캐시에서 제거됨")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void changeApiKey() {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        actorCache.evictAll();
+
+        assertThat(memberService.findActorByApiKey("user1")).isPresent();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                memberService.findByUsername("user1").get().setApiKey("user1-changed");
+                entityManager.flush();
+
+                // flush 만 된 상태. 아직 커밋되지 않았으므로 캐시에 남아 있다.
+                assertThat(actorCache.getNativeCache().getIfPresent("user1")).isNotNull();
+            });
+
+            assertThat(actorCache.getNativeCache().getIfPresent("user1")).isNull();
+            assertThat(memberService.findActorByApiKey("user1")).isEmpty();
+            assertThat(memberService.findActorByApiKey("user1-changed")).isPresent();
+        } finally {
+            transactionTemplate.executeWithoutResult(status ->
+                    memberService.findByUsername("user1").get().setApiKey("user1")
+            );
+        }
+
+        assertThat(actorCache.getNativeCache().getIfPresent("user1-changed")).isNull();
+    }
 }
@@ -2,24 +2,40 @@ package com.example.rest_tdd;
 
 import com.example.rest_tdd.domain.member.member.entity.Member;
 import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.post.cache.PostListCache;
 import com.example.rest_tdd.domain.post.post.controller.ApiV1PostController;
 import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.search.PostSearchIndex;
 import com.example.rest_tdd.domain.post.post.service.PostService;
+import com.example.rest_tdd.global.exception.ServiceException;
+import com.example.rest_tdd.global.web.ETags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -40,6 +56,24 @@ public class ApiV1PostControllerTest {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private void checkPost(ResultActions resultActions, Post post) throws Exception {
 
         resultActions.andExpect(jsonPath("$.data").exists())
@@ -50,6 +84,7 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.authorName").value(post.getAuthor().getNickname()))
                 .andExpect(jsonPath("$.data.published").value(post.isPublished()))
                 .andExpect(jsonPath("$.data.listed").value(post.isListed()))
+                .andExpect(jsonPath("$.data.commentCount").value(post.getCommentCount()))
                 .andExpect(jsonPath("$.data.createdDate").value(matchesPattern(post.getCreatedDate().toString().replaceAll("0+$", "") + ".*")))
                 .andExpect(jsonPath("$.data.modifiedDate").value(matchesPattern(post.getModifiedDate().toString().replaceAll("0+$", "") + ".*")));
     }
@@ -69,6 +104,7 @@ public class ApiV1PostControllerTest {
                     .andExpect(jsonPath("$.data.items[%d].authorName".formatted(i)).value(post.getAuthor().getNickname()))
                     .andExpect(jsonPath("$.data.items[%d].published".formatted(i)).value(post.isPublished()))
                     .andExpect(jsonPath("$.data.items[%d].listed".formatted(i)).value(post.isListed()))
+                    .andExpect(jsonPath("$.data.items[%d].commentCount".formatted(i)).value(post.getCommentCount()))
                     .andExpect(jsonPath("$.data.items[%d].createdDate".formatted(i)).value(matchesPattern(post.getCreatedDate().toString().replaceAll("0+$", "") + ".*")))
                     .andExpect(jsonPath("$.data.items[%d].modifiedDate".formatted(i)).value(matchesPattern(post.getModifiedDate().toString().replaceAll("0+$", "") + ".*")));
         }
@@ -145,6 +181,10 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.data.currentPageNo").isNumber())
                 .andExpect(jsonPath("$.data.totalPages").isNumber());
 
+        // code, msg, data 순서
+        assertThat(resultActions.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .startsWith("{\"code\":\"200-1\",\"msg\":\"글 목록 조회가 완료되었습니다.\",\"data\":{");
+
         Page<Post> postPage = postService.getListedItems(1, 3, "title", "");
         List<Post> posts = postPage.getContent();
 
@@ -211,6 +251,179 @@ public class ApiV1PostControllerTest {
         checkPosts(posts, resultActions);
     }
 
+    @Test
+    @DisplayName("글 다건 조회 - 커서 기반 페이징, count 정보 없이 다음 커서를 반환")
+    void items4() throws Exception {
+
+        int pageSize = 3;
+        String keywordType = "title";
+        String keyword = "title";
+
+        ResultActions resultActions = mvc.perform(
+                        get("/api/v1/posts?after=%d&pageSize=%d&keywordType=%s&keyword=%s"
+                                .formatted(0, pageSize, keywordType, keyword)))
+                .andDo(print());
+
+        Slice<Post> postSlice = postService.getListedItemsAfter(0, pageSize, keywordType, keyword);
+        List<Post> posts = postSlice.getContent();
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(pageSize))
+                .andExpect(jsonPath("$.data.nextCursor").value(posts.get(pageSize - 1).getId()))
+                .andExpect(jsonPath("$.data.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.data.totalItems").doesNotExist());
+
+        checkPosts(posts, resultActions);
+
+        // 마지막 페이지에서는 다음 커서가 없어야 함.
+        mvc.perform(
+                        get("/api/v1/posts?after=%d&pageSize=%d&keywordType=%s&keyword=%s"
+                                .formatted(posts.get(pageSize - 1).getId(), 10, keywordType, keyword)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(4))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 부분 일치, 비공개 목록 글은 제외")
+    void items5() throws Exception {
+
+        ResultActions resultActions = mvc.perform(
+                        get("/api/v1/posts?keywordType=title&keyword=하실&sort=relevance"))
+                .andDo(print());
+
+        resultActions.andExpect(status().isOk())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andExpect(jsonPath("$.data.totalItems").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(1));
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 작성자 정보까지 목록 쿼리 1번 + count 쿼리 1번으로 조회")
+    void items6() throws Exception {
+
+        // 캐시를 비워서 캐시 없이 실행되는 쿼리 수를 확인
+        entityManagerFactory.getCache().evictAll();
+        postListCache.invalidateAll();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc.perform(
+                        get("/api/v1/posts?pageSize=%d".formatted(5))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(5));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 같은 조건의 두번째 요청은 캐시된 응답 사용")
+    void items7() throws Exception {
+
+        postListCache.invalidateAll();
+        long hitCount = postListCache.stats().hitCount();
+
+        String body1 = mvc.perform(get("/api/v1/posts?page=2"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        String body2 = mvc.perform(get("/api/v1/posts?page=2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(jsonPath("$.code").value("200-1"))
+                .andExpect(jsonPath("$.data.currentPageNo").value(2))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body2).isEqualTo(body1);
+        assertThat(postListCache.stats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 색인 후보라도 키워드가 연속으로 들어 있지 않으면 제외")
+    void items8() {
+
+        // "titi" 의 bigram(ti, it)은 모두 "title4" 등에 있지만 "titi" 는 없다.
+        assertThat(postService.getListedItems(1, 10, "title", "titi").getTotalElements()).isZero();
+        assertThat(postService.getListedItemsAfter(0, 10, "title", "titi").getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 색인을 다 만들기 전과 1글자 검색어는 DB 에서 검색")
+    void items9() {
+
+        List<Long> indexed = postService.getListedItems(1, 10, "title", "title").map(Post::getId).getContent();
+
+        postSearchIndex.clear();
+
+        try {
+            assertThat(postSearchIndex.supports("title")).isFalse();
+            assertThat(postService.getListedItems(1, 10, "title", "title").map(Post::getId).getContent())
+                    .isEqualTo(indexed);
+        } finally {
+            postService.reindex();
+        }
+
+        assertThat(postSearchIndex.supports("4")).isFalse();
+        assertThat(postService.getListedItems(1, 10, "title", "4").getContent())
+                .extracting(Post::getTitle)
+                .containsExactly("title4");
+    }
+
+    @Test
+    @DisplayName("글 다건 조회 - 검색 - 색인 후보가 상한을 넘으면 DB 에서 전체를 검색")
+    void items10() {
+
+        Member author = memberService.findByUsername("user1").get();
+        List<Post> posts = new ArrayList<>();
+
+        // "zqz zx" 는 "zqzx" 의 bigram(zq, qz, zx)을 모두 갖지만 "zqzx" 는 없다.
+        for (int i = 0; i < PostService.MAX_SEARCH_CANDIDATES; i++) {
+            posts.add(postService.write(author, "상한글 %d zqz zx".formatted(i), "내용", true, true));
+        }
+
+        posts.add(postService.write(author, "상한글 상한글 zqzx", "내용", true, true));
+        postService.flush();
+
+        // 테스트 트랜잭션은 커밋되지 않으므로 색인에 직접 넣는다.
+        posts.forEach(postSearchIndex::put);
+
+        try {
+            Page<Post> firstPage = postService.getListedItems(1, 10, "title", "상한글");
+            assertThat(firstPage.getTotalElements()).isEqualTo(PostService.MAX_SEARCH_CANDIDATES + 1);
+
+            int lastPage = firstPage.getTotalPages();
+            assertThat(postService.getListedItems(lastPage, 10, "title", "상한글").getContent()).hasSize(1);
+
+            // 관련도 순서도 전체 글 중에서 정한다. (가장 나중에 쓴 글에 키워드가 두 번)
+            assertThat(postService.getListedItems(1, 10, "title", "상한글", "relevance").getContent().get(0).getTitle())
+                    .isEqualTo("상한글 상한글 zqzx");
+            assertThat(postService.getMines(author, 1, 10, "title", "상한글", "relevance").getContent().get(0).getTitle())
+                    .isEqualTo("상한글 상한글 zqzx");
+
+            // 후보를 상한만큼 확인해도 실제 결과가 없으면 커서 조회도 DB 에서 찾는다.
+            assertThat(postService.getListedItemsAfter(0, 10, "title", "zqzx").getContent())
+                    .extracting(Post::getTitle)
+                    .containsExactly("상한글 상한글 zqzx");
+        } finally {
+            posts.forEach(post -> postSearchIndex.remove(post.getId(), post.getTitle(), post.getContent()));
+        }
+    }
+
     @Test
     @DisplayName("내가 작성한 글 조회 (user1) - 검색, 페이징이 되어야 함.")
     void mines() throws Exception {
@@ -279,6 +492,38 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.msg").value("존재하지 않는 글입니다."));
     }
 
+    @Test
+    @DisplayName("글 단건 조회 2-2 - 없는 글 조회는 스택 트레이스 없는 같은 예외 객체로 응답")
+    void item2_2() throws Exception {
+
+        MvcResult result1 = itemRequest(100000, "user2")
+                .andExpect(status().isNotFound())
+                .andReturn();
+        MvcResult result2 = itemRequest(100001, "user1")
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("404-1"))
+                .andExpect(jsonPath("$.msg").value("존재하지 않는 글입니다."))
+                .andReturn();
+
+        assertThat(result2.getResponse().getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"code\":\"404-1\",\"msg\":\"존재하지 않는 글입니다.\"}");
+        assertThat(result2.getResolvedException())
+                .isInstanceOf(ServiceException.class)
+                .isSameAs(result1.getResolvedException());
+        assertThat(result2.getResolvedException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미리 인코딩한 예외 본문은 RsData 직렬화 결과와 같다.")
+    void item2_3() throws Exception {
+
+        ServiceException ex = new ServiceException("400-1", "\"제목\" : NotBlank\n\\ \t\u0001");
+
+        assertThat(new String(ex.getBody(), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(ex.getRsData()));
+    }
+
     @Test
     @DisplayName("글 단건 조회 3 - 다른 유저의 비공개 글 조회")
     void item3() throws Exception {
@@ -295,6 +540,138 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.msg").value("비공개 설정된 글입니다."));
     }
 
+    @Test
+    @DisplayName("글 단건 조회 4 - 변경되지 않았으면 304")
+    void item4() throws Exception {
+
+        long postId = 1;
+
+        MvcResult mvcResult = mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn();
+
+        String eTag = mvcResult.getResponse().getHeader("ETag");
+        String lastModified = mvcResult.getResponse().getHeader("Last-Modified");
+
+        mvc.perform(
+                        get("/api/v1/posts/%d".formatted(postId))
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(content().string(""));
+
+        mvc.perform(
+                        get("/api/v1/posts/%d".formatted(postId))
+                                .header("If-Modified-Since", lastModified)
+                )
+                .andExpect(status().isNotModified());
+
+        // 글이 수정되면 ETag 가 달라져야 함.
+        modifyRequest(postId, "user1", "수정된 글 제목", "수정된 글 내용");
+        postService.flush();
+
+        mvc.perform(
+                        get("/api/v1/posts/%d".formatted(postId))
+                                .header("If-None-Match", eTag)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 글 제목"));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 5 - 댓글이 달리면 같은 ETag 로도 200, 바뀐 댓글 수")
+    void item5() throws Exception {
+
+        long postId = 1;
+
+        String eTag = mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentCount").value(2))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer user1")
+                                .content("{\"content\": \"새 댓글\"}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isCreated());
+
+        mvc.perform(
+                        get("/api/v1/posts/%d".formatted(postId))
+                                .header("If-None-Match", eTag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentCount").value(3));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 6 - 댓글이 달려도 글 수정일은 그대로, Last-Modified 는 댓글 변경 시각")
+    void item6() throws Exception {
+
+        long postId = 1;
+        LocalDateTime modifiedDate = postService.getItem(postId).get().getModifiedDate();
+
+        mvc.perform(
+                        post("/api/v1/posts/%d/comments".formatted(postId))
+                                .header("Authorization", "Bearer user1")
+                                .content("{\"content\": \"새 댓글\"}")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isCreated());
+
+        postService.flush();
+
+        // 댓글 변경 시각은 JDBC 로 갱신되므로 영속성 컨텍스트와 2차 캐시를 비우고 다시 읽는다.
+        entityManager.clear();
+        entityManagerFactory.getCache().evict(Post.class, postId);
+
+        LocalDateTime commentModifiedDate = jdbcTemplate.queryForObject(
+                "select comment_modified_date from post where id = ?", LocalDateTime.class, postId);
+
+        assertThat(commentModifiedDate).isNotNull();
+
+        // 롤백될 값이 2차 캐시에 남지 않도록 끝나면 다시 비운다.
+        try {
+            mvc.perform(get("/api/v1/posts/%d".formatted(postId)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.commentCount").value(3))
+                    .andExpect(jsonPath("$.data.modifiedDate").value(matchesPattern(modifiedDate.toString().replaceAll("0+$", "") + ".*")))
+                    .andExpect(header().dateValue("Last-Modified", ETags.toEpochMilli(commentModifiedDate)));
+        } finally {
+            entityManagerFactory.getCache().evict(Post.class, postId);
+        }
+    }
+
+    // open-in-view 가 꺼져 있으므로 테스트 트랜잭션 밖에서 요청해야 작성자 프록시 초기화 여부를 확인할 수 있다.
+    @Test
+    @DisplayName("글 단건 조회 7 - 2차 캐시에서 읽은 글도 작성자 정보를 응답")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void item7() throws Exception {
+
+        long postId = 1;
+        Post post = postService.getItem(postId).get();
+
+        // 두 번째 요청은 2차 캐시에서 읽는다.
+        for (int i = 0; i < 2; i++) {
+            itemRequest(postId, "user1")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.authorName").value(post.getAuthor().getNickname()));
+        }
+
+        deleteRequest(postId, "user2")
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("403-1"));
+    }
+
     @Test
     @DisplayName("글 작성")
     void write1() throws Exception {
@@ -353,6 +730,142 @@ public class ApiV1PostControllerTest {
                         """.trim().stripIndent()));
     }
 
+    private ResultActions importRequest(String apiKey, MediaType contentType, String body) throws Exception {
+
+        return mvc
+                .perform(
+                        post("/api/v1/posts/import")
+                                .header("Authorization", "Bearer " + apiKey)
+                                .content(body)
+                                .contentType(contentType)
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("글 가져오기 - JSON 배열, 잘못된 항목은 건너뛰고 오류로 보고")
+    void import1() throws Exception {
+
+        long count = postService.count();
+
+        ResultActions resultActions = importRequest("user1", new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8), """
+                [
+                    {"title": "가져온 글 1", "content": "가져온 내용 1", "published": true, "listed": true},
+                    {"title": "", "content": "가져온 내용 2", "published": true, "listed": true},
+                    "글이 아님",
+                    {"title": "가져온 글 4", "content": "가져온 내용 4", "published": false, "listed": false}
+                ]
+                """);
+
+        resultActions.andExpect(status().isCreated())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("importItems"))
+                .andExpect(jsonPath("$.code").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("2건의 글 가져오기가 완료되었습니다."))
+                .andExpect(jsonPath("$.data.importedCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(2))
+                .andExpect(jsonPath("$.data.errors[0].index").value(1))
+                .andExpect(jsonPath("$.data.errors[0].msg").value("title : NotBlank : must not be blank"))
+                .andExpect(jsonPath("$.data.errors[1].index").value(2));
+
+        assertThat(postService.count()).isEqualTo(count + 2);
+
+        Post post = postService.getLatestItem().get();
+        assertThat(post.getTitle()).isEqualTo("가져온 글 4");
+        assertThat(post.getAuthor().getUsername()).isEqualTo("user1");
+        assertThat(post.isPublished()).isFalse();
+        assertThat(post.getCreatedDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("글 가져오기 - NDJSON, 문법 오류가 나면 그 앞까지만 가져옴")
+    void import2() throws Exception {
+
+        long count = postService.count();
+
+        ResultActions resultActions = importRequest("user1", MediaType.APPLICATION_NDJSON, """
+                {"title": "가져온 글 1", "content": "가져온 내용 1", "published": true, "listed": true}
+                {"title": "가져온 글 2", "content": "가져온 내용 2", "published": true, "listed": true}
+                {"title": "가져온 글 3", "content":
+                {"title": "가져온 글 4", "content": "가져온 내용 4", "published": true, "listed": true}
+                """);
+
+        resultActions.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.importedCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.errors[0].index").value(2))
+                .andExpect(jsonPath("$.data.errors[0].msg").value(matchesPattern("JSON 형식이 올바르지 않습니다.*")));
+
+        assertThat(postService.count()).isEqualTo(count + 2);
+    }
+
+    @Test
+    @DisplayName("글 가져오기 - 가져온 글이 없으면 400")
+    void import4() throws Exception {
+
+        long count = postService.count();
+
+        ResultActions resultActions = importRequest("user1", MediaType.APPLICATION_NDJSON, """
+                {"title": "", "content": "가져온 내용 1", "published": true, "listed": true}
+                """);
+
+        resultActions.andExpect(status().isBadRequest())
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("importItems"))
+                .andExpect(jsonPath("$.code").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("가져온 글이 없습니다."))
+                .andExpect(jsonPath("$.data.importedCount").value(0))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.errors[0].msg").value("title : NotBlank : must not be blank"));
+
+        assertThat(postService.count()).isEqualTo(count);
+    }
+
+    // batch insert 가 실패하면 롤백 후 한 건씩 다시 시도하므로 테스트 트랜잭션 밖에서 실제로 커밋한다.
+    @Test
+    @DisplayName("글 가져오기 - 저장에 실패한 항목만 실패 처리")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void import5() throws Exception {
+
+        long count = postService.count();
+        long lastId = postService.getLatestItem().get().getId();
+
+        try {
+            ResultActions resultActions = importRequest("user1", MediaType.APPLICATION_NDJSON, """
+                    {"title": "가져온 글 1", "content": "가져온 내용 1", "published": false, "listed": false}
+                    {"title": "%s", "content": "가져온 내용 2", "published": false, "listed": false}
+                    """.formatted("가".repeat(300)));
+
+            resultActions.andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.code").value("201-1"))
+                    .andExpect(jsonPath("$.data.importedCount").value(1))
+                    .andExpect(jsonPath("$.data.failedCount").value(1))
+                    .andExpect(jsonPath("$.data.errors[0].index").value(1))
+                    .andExpect(jsonPath("$.data.errors[0].msg").value(matchesPattern("(?s)저장하지 못했습니다.*")));
+
+            assertThat(postService.count()).isEqualTo(count + 1);
+            assertThat(postService.getLatestItem().get().getTitle()).isEqualTo("가져온 글 1");
+        } finally {
+            jdbcTemplate.query("select id, title, content from post where id > ?", rs -> {
+                postSearchIndex.remove(rs.getLong("id"), rs.getString("title"), rs.getString("content"));
+            }, lastId);
+            jdbcTemplate.update("delete from post where id > ?", lastId);
+            postListCache.invalidateAll();
+        }
+    }
+
+    @Test
+    @DisplayName("글 가져오기 - no apiKey")
+    void import3() throws Exception {
+
+        ResultActions resultActions = importRequest("", MediaType.APPLICATION_NDJSON, """
+                {"title": "가져온 글 1", "content": "가져온 내용 1", "published": true, "listed": true}
+                """);
+
+        resultActions.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("401-1"));
+    }
+
     @Test
     @DisplayName("글 수정")
     void modify1() throws Exception {
@@ -486,4 +999,89 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.code").value("403-1"))
                 .andExpect(jsonPath("$.msg").value("자신이 작성한 글만 삭제 가능합니다."));
     }
+
+    // 목록 캐시, 검색 색인은 커밋된 뒤에 반영되므로 아래 테스트는 테스트 트랜잭션 밖에서 실제로 커밋하고 쓴 글을 지운다.
+    private void deleteIfExists(long postId) throws Exception {
+
+        if (postService.existsById(postId)) {
+            deleteRequest(postId, "user1").andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("글 작성, 수정, 삭제 - 커밋되면 목록 캐시를 기다리지 않고 바로 반영")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void listCacheInvalidatedAfterCommit() throws Exception {
+
+        long lastId = postService.getLatestItem().get().getId();
+        int totalItems = (int) postService.getListedItems(1, 3, "title", "").getTotalElements();
+
+        // 두 목록을 먼저 캐시에 올려 둔다.
+        mvc.perform(get("/api/v1/posts"))
+                .andExpect(jsonPath("$.data.totalItems").value(totalItems));
+        mvc.perform(get("/api/v1/posts").param("after", String.valueOf(lastId)).param("pageSize", "1"))
+                .andExpect(jsonPath("$.data.items.length()").value(0));
+
+        writeRequest("user1", "캐시 확인 글", "캐시 확인 내용").andExpect(status().isCreated());
+        long postId = postService.getLatestItem().get().getId();
+
+        try {
+            mvc.perform(get("/api/v1/posts"))
+                    .andExpect(jsonPath("$.data.totalItems").value(totalItems + 1));
+            mvc.perform(get("/api/v1/posts").param("after", String.valueOf(lastId)).param("pageSize", "1"))
+                    .andExpect(jsonPath("$.data.items[0].id").value(postId))
+                    .andExpect(jsonPath("$.data.items[0].title").value("캐시 확인 글"));
+
+            modifyRequest(postId, "user1", "수정된 캐시 확인 글", "캐시 확인 내용").andExpect(status().isOk());
+
+            mvc.perform(get("/api/v1/posts").param("after", String.valueOf(lastId)).param("pageSize", "1"))
+                    .andExpect(jsonPath("$.data.items[0].title").value("수정된 캐시 확인 글"));
+
+            deleteRequest(postId, "user1").andExpect(status().isOk());
+
+            mvc.perform(get("/api/v1/posts"))
+                    .andExpect(jsonPath("$.data.totalItems").value(totalItems));
+            mvc.perform(get("/api/v1/posts").param("after", String.valueOf(lastId)).param("pageSize", "1"))
+                    .andExpect(jsonPath("$.data.items.length()").value(0));
+        } finally {
+            deleteIfExists(postId);
+        }
+    }
+
+    @Test
+    @DisplayName("글 작성, 수정, 삭제 - 커밋되면 검색 색인에 바로 반영")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void searchIndexUpdatedAfterCommit() throws Exception {
+
+        assertThat(postSearchIndex.supports("색인확인")).isTrue();
+
+        writeRequest("user1", "색인확인 글", "색인확인 내용").andExpect(status().isCreated());
+        long postId = postService.getLatestItem().get().getId();
+
+        try {
+            assertThat(postService.getListedItems(1, 10, "title", "색인확인").map(Post::getId).getContent())
+                    .containsExactly(postId);
+            mvc.perform(get("/api/v1/posts").param("keywordType", "content").param("keyword", "색인확인"))
+                    .andExpect(jsonPath("$.data.totalItems").value(1))
+                    .andExpect(jsonPath("$.data.items[0].id").value(postId));
+
+            modifyRequest(postId, "user1", "바뀐제목 글", "바뀐내용").andExpect(status().isOk());
+
+            // 이전 제목, 내용의 posting 은 지워지고 새 제목, 내용으로 찾는다.
+            assertThat(postService.getListedItems(1, 10, "title", "색인확인").getContent()).isEmpty();
+            assertThat(postService.getListedItems(1, 10, "content", "색인확인").getContent()).isEmpty();
+            assertThat(postService.getListedItems(1, 10, "title", "바뀐제목").map(Post::getId).getContent())
+                    .containsExactly(postId);
+            mvc.perform(get("/api/v1/posts").param("keywordType", "content").param("keyword", "바뀐내용"))
+                    .andExpect(jsonPath("$.data.items[0].id").value(postId));
+
+            deleteRequest(postId, "user1").andExpect(status().isOk());
+
+            assertThat(postService.getListedItems(1, 10, "title", "바뀐제목").getContent()).isEmpty();
+            mvc.perform(get("/api/v1/posts").param("keywordType", "content").param("keyword", "바뀐내용"))
+                    .andExpect(jsonPath("$.data.totalItems").value(0));
+        } finally {
+            deleteIfExists(postId);
+        }
+    }
 }
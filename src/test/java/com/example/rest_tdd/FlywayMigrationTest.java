@@ -0,0 +1,88 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Flyway 도입 전(ddl-auto=update) 스키마에 데이터가 있는 DB 를 만들어 두고 애플리케이션을 띄운다.
+// baseline 후 V2 부터 적용되어 ddl-auto=validate 를 통과하고, 기존 데이터가 그대로 쓰여야 한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class FlywayMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:db_baseline_era;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void baselineEraDatabase(DynamicPropertyRegistry registry) throws SQLException {
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline-era-schema.sql"));
+        }
+
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostService postService;
+
+    @Test
+    @DisplayName("ddl-auto 로 만든 기존 DB - baseline 후 마지막 버전까지 적용")
+    void migrated() {
+
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("4");
+
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_name in ('MEMBER', 'POST', 'COMMENT')",
+                String.class
+        );
+
+        assertThat(indexes).contains("idx_post_listed_id", "idx_post_author_id_id", "idx_comment_post_id_id");
+    }
+
+    @Test
+    @DisplayName("ddl-auto 로 만든 기존 DB - 기존 댓글 수가 채워짐")
+    void commentCountBackfilled() {
+
+        assertThat(postService.getItem(1).get().getCommentCount()).isEqualTo(2);
+        assertThat(postService.getItem(2).get().getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ddl-auto 로 만든 기존 DB - 새 글 id 가 기존 id 와 겹치지 않음")
+    void newIdsAfterExisting() {
+
+        Post post = postService.write(memberService.findByUsername("user1").get(), "새 글", "새 글 내용", true, true);
+        postService.flush();
+
+        assertThat(post.getId()).isGreaterThan(2);
+    }
+}
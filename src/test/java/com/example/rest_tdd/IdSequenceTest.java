@@ -0,0 +1,45 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.post.comment.entity.Comment;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.global.entity.BaseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 엔티티 id 생성기가 마이그레이션의 시퀀스({테이블}_seq, increment ID_ALLOCATION_SIZE)와 맞는지 확인한다.
+@SpringBootTest
+@ActiveProfiles("test")
+public class IdSequenceTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SequenceStyleGenerator generator(Class<?> entityClass) {
+        return (SequenceStyleGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+    }
+
+    @Test
+    @DisplayName("엔티티별 시퀀스에서 ID_ALLOCATION_SIZE 개씩 할당")
+    void sequences() {
+
+        assertThat(generator(Member.class).getDatabaseStructure().getPhysicalName().render()).isEqualToIgnoringCase("member_seq");
+        assertThat(generator(Post.class).getDatabaseStructure().getPhysicalName().render()).isEqualToIgnoringCase("post_seq");
+        assertThat(generator(Comment.class).getDatabaseStructure().getPhysicalName().render()).isEqualToIgnoringCase("comment_seq");
+
+        assertThat(generator(Member.class).getOptimizer().getIncrementSize()).isEqualTo(BaseEntity.ID_ALLOCATION_SIZE);
+        assertThat(generator(Post.class).getOptimizer().getIncrementSize()).isEqualTo(BaseEntity.ID_ALLOCATION_SIZE);
+        assertThat(generator(Comment.class).getOptimizer().getIncrementSize()).isEqualTo(BaseEntity.ID_ALLOCATION_SIZE);
+    }
+}
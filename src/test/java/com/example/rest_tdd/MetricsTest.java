@@ -0,0 +1,73 @@
+package com.example.rest_tdd;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+public class MetricsTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    private String scrape() throws Exception {
+
+        return mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("요청 메트릭 - RsData 결과 코드 태그")
+    void httpServerRequests() throws Exception {
+
+        mvc.perform(get("/api/v1/posts/1")).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/posts/100000")).andExpect(status().isNotFound());
+        mvc.perform(get("/api/v1/posts")).andExpect(status().isOk());
+
+        String metrics = scrape();
+
+        assertThat(metrics)
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*code=\"200-1\"[^}]*uri=\"/api/v1/posts/\\{id}\"")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*code=\"404-1\"[^}]*status=\"404\"[^}]*uri=\"/api/v1/posts/\\{id}\"")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*code=\"200-1\"[^}]*uri=\"/api/v1/posts\"")
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/v1/posts/\\{id}\"");
+    }
+
+    @Test
+    @DisplayName("서비스, 리포지터리, 커넥션 풀, JVM, 캐시 메트릭")
+    void others() throws Exception {
+
+        mvc.perform(get("/api/v1/posts/1").header("Authorization", "Bearer user1")).andExpect(status().isOk());
+
+        String metrics = scrape();
+
+        assertThat(metrics)
+                .containsPattern("app_service_seconds_count\\{[^}]*class=\"[^\"]*PostService\"[^}]*method=\"getItem\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*method=\"findById\"[^}]*repository=\"PostRepository\"")
+                .contains("hikaricp_connections_active")
+                .contains("jvm_gc_memory_allocated_bytes_total")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"postList\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"actor\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"post\"[^}]*result=\"hit\"")
+                .containsPattern("cache_puts_total\\{[^}]*cache=\"comment\"");
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.member.member.entity.Member;
+import com.example.rest_tdd.domain.member.member.repository.MemberRepository;
+import com.example.rest_tdd.domain.post.comment.repository.CommentRepository;
+import com.example.rest_tdd.domain.post.post.entity.Post;
+import com.example.rest_tdd.domain.post.post.repository.PostRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록, 인증 쿼리가 인덱스를 타는지 H2 실행 계획(EXPLAIN)으로 확인한다.
+// 리포지터리를 실제로 호출해 Hibernate 가 만든 SQL 과 바인딩 값을 가로채(datasource-proxy) 그대로 EXPLAIN 한다.
+// 인덱스가 빠지거나 리포지터리 메서드가 바뀌어 full scan 으로 돌아가면 실패한다.
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class QueryPlanTest {
+
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        @Bean
+        public QueryCapture queryCapture() {
+            return new QueryCapture();
+        }
+    }
+
+    // capture 실행 중에 이 스레드에서 실행된 쿼리만 모은다.
+    static class QueryCapture implements QueryExecutionListener {
+
+        private final ThreadLocal<List<QueryInfo>> queries = new ThreadLocal<>();
+
+        List<QueryInfo> capture(Runnable action) {
+
+            queries.set(new ArrayList<>());
+
+            try {
+                action.run();
+                return queries.get();
+            } finally {
+                queries.remove();
+            }
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+            List<QueryInfo> captured = queries.get();
+
+            if (captured != null) {
+                captured.addAll(queryInfoList);
+            }
+        }
+    }
+
+    @Autowired
+    private QueryCapture queryCapture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    // 첫 번째 쿼리(Page 면 count 앞의 본 쿼리)를 같은 바인딩 값으로 EXPLAIN 한다.
+    private String explain(Runnable repositoryCall) {
+
+        List<QueryInfo> queries = queryCapture.capture(repositoryCall);
+
+        assertThat(queries).isNotEmpty();
+
+        QueryInfo query = queries.get(0);
+        Object[] args = query.getParametersList().isEmpty()
+                ? new Object[0]
+                : query.getParametersList().get(0)
+                .stream()
+                .sorted(Comparator.comparingInt(op -> (int) op.getArgs()[0]))
+                .map(op -> op.getArgs()[1])
+                .toArray();
+
+        return jdbcTemplate.queryForObject("explain " + query.getQuery(), String.class, args);
+    }
+
+    private Member member(String username) {
+        return memberRepository.findByUsername(username).get();
+    }
+
+    private Post post(long id) {
+        return postRepository.findById(id).get();
+    }
+
+    @Test
+    @DisplayName("공개 글 목록 - (listed, id) 인덱스")
+    void postListed() {
+
+        String plan = explain(() -> postRepository.findByListed(true, PageRequest.of(0, 10)));
+
+        assertThat(plan).containsIgnoringCase("idx_post_listed_id")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("공개 글 목록 - 커서 - (listed, id) 인덱스")
+    void postListedAfter() {
+
+        String plan = explain(() -> postRepository.findByListedAndIdGreaterThanOrderByIdAsc(true, 3, PageRequest.of(0, 10)));
+
+        assertThat(plan).containsIgnoringCase("idx_post_listed_id")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("내 글 목록 - 커서 - (author_id, id) 인덱스")
+    void postMinesAfter() {
+
+        Member author = member("user1");
+
+        String plan = explain(() -> postRepository.findByAuthorAndIdGreaterThanOrderByIdAsc(author, 3, PageRequest.of(0, 10)));
+
+        assertThat(plan).containsIgnoringCase("idx_post_author_id_id")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("apiKey 로 회원 조회 - unique 인덱스")
+    void memberApiKey() {
+
+        String plan = explain(() -> memberRepository.findByApiKey("user1"));
+
+        assertThat(plan).containsIgnoringCase("uk_member_api_key")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("글별 댓글 목록 - (post_id, id) 인덱스")
+    void comments() {
+
+        Post post = post(1);
+
+        String plan = explain(() -> commentRepository.findByPostAndIdGreaterThanOrderByIdAsc(post, 0, PageRequest.of(0, 30)));
+
+        assertThat(plan).containsIgnoringCase("idx_comment_post_id_id")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+}
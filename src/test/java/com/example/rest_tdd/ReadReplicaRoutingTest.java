@@ -0,0 +1,99 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.member.member.cache.ActorCache;
+import com.example.rest_tdd.domain.member.member.service.MemberService;
+import com.example.rest_tdd.domain.post.post.cache.PostListCache;
+import com.example.rest_tdd.domain.post.post.service.PostService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// primary(db_test) 와 복제본(db_test_replica) 을 별개의 H2 로 띄운다. 복제는 되지 않으므로
+// 복제본에는 스키마만 있고 데이터가 없다. 읽은 결과로 어느 쪽으로 갔는지 확인한다.
+@SpringBootTest(properties = "custom.datasource.replica.url=jdbc:h2:mem:db_test_replica;MODE=MySQL")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+public class ReadReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ActorCache actorCache;
+
+    @Autowired
+    private PostListCache postListCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .load()
+                .migrate();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본에서 읽는다.")
+    void readOnly() {
+
+        assertThat(postService.count()).isZero();
+        assertThat(memberService.findByUsername("user1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 읽기는 primary 에서 읽는다.")
+    void readWrite() {
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        long count = transactionTemplate.execute(status -> postService.count());
+
+        assertThat(count).isGreaterThanOrEqualTo(9);
+        boolean memberExists = transactionTemplate.execute(status -> memberService.findByUsername("user1").isPresent());
+
+        assertThat(memberExists).isTrue();
+    }
+
+    @Test
+    @DisplayName("쓰기 후 다시 채우는 캐시는 primary 에서 읽는다.")
+    void cacheLoadsFromPrimary() throws Exception {
+
+        actorCache.evictAll();
+        postListCache.invalidateAll();
+
+        assertThat(memberService.findActorByApiKey("user1")).isPresent();
+
+        mvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items.length()").value(3));
+    }
+}
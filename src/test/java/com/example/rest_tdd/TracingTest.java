@@ -0,0 +1,119 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.domain.post.post.controller.ApiV1PostController;
+import com.example.rest_tdd.domain.post.post.service.PostExportService;
+import com.example.rest_tdd.global.tracing.SlowTraceSpanProcessor;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// threshold 를 0 으로 두어 모든 요청을 느린 요청으로 본다.
+@SpringBootTest(properties = {
+        "custom.tracing.slowThresholdMillis=0",
+        "custom.tracing.export.file=build/tracing-test/traces.ndjson"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class TracingTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private SlowTraceSpanProcessor slowTraceSpanProcessor;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private ApiV1PostController apiV1PostController;
+
+    private SlowTraceSpanProcessor.SlowTrace mine() throws Exception {
+
+        mvc.perform(get("/api/v1/posts/mine").header("Authorization", "Bearer user1"))
+                .andExpect(status().isOk());
+
+        List<SlowTraceSpanProcessor.SlowTrace> recent = slowTraceSpanProcessor.getRecent();
+
+        return recent.get(recent.size() - 1);
+    }
+
+    @Test
+    @DisplayName("느린 요청은 단계별 소요 시간을 남긴다.")
+    void slow() throws Exception {
+
+        SlowTraceSpanProcessor.SlowTrace slowTrace = mine();
+
+        assertThat(slowTrace.name()).isEqualTo("http get /api/v1/posts/mine");
+        assertThat(slowTrace.phaseNanos())
+                .containsKeys("controller", "auth", "service", "repository", "query", "serialize");
+        assertThat(slowTrace.detail())
+                .contains("controller ApiV1PostController.getMines")
+                .contains("auth Rq.getAuthenticateActor")
+                .contains("service PostService.getMines")
+                .contains("repository PostRepository.findByAuthor")
+                .containsPattern("query : .*select .* from post")
+                .contains("query : /* <criteria> */ select count(p1_0.id) from post")
+                .contains("serialize\n");
+    }
+
+    @Test
+    @DisplayName("controller span 은 인터셉터가 만든다. 컨트롤러는 프록시로 감싸지 않는다.")
+    void controllerNotProxied() {
+        assertThat(AopUtils.isAopProxy(apiV1PostController)).isFalse();
+    }
+
+    @Test
+    @DisplayName("span 을 NDJSON 파일로 내보낸다.")
+    void export() throws Exception {
+
+        SlowTraceSpanProcessor.SlowTrace slowTrace = mine();
+
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        List<String> lines = Files.readAllLines(Path.of("build/tracing-test/traces.ndjson"))
+                .stream()
+                .filter(line -> line.contains("\"traceId\":\"" + slowTrace.traceId() + "\""))
+                .toList();
+
+        assertThat(lines)
+                .anyMatch(line -> line.contains("\"name\":\"http get /api/v1/posts/mine\"") && !line.contains("parentSpanId"))
+                .anyMatch(line -> line.contains("\"name\":\"PostService.getMines\"") && line.contains("\"app.phase\":\"service\""));
+    }
+
+    @Test
+    @DisplayName("요청이나 스트리밍 조회가 끝나면 스레드에 span 이 남지 않는다.")
+    void scope() throws Exception {
+
+        mine();
+        assertThat(tracer.currentSpan()).isNull();
+
+        postExportService.exportListed(new ByteArrayOutputStream());
+        assertThat(tracer.currentSpan()).isNull();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.rest_tdd;
+
+import com.example.rest_tdd.global.app.VirtualThreadConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadConfig.class);
+
+    @Test
+    @DisplayName("가상 스레드 설정 - Java 21 미만이면 시작하지 않음")
+    void virtualThreads() {
+
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    if (Runtime.version().feature() < 21) {
+                        assertThat(context).hasFailed();
+                        assertThat(context.getStartupFailure()).rootCause().hasMessageContaining("Java 21 이상이 필요합니다.");
+                    } else {
+                        assertThat(context).hasNotFailed();
+                    }
+                });
+    }
+
+    @Test
+    @DisplayName("가상 스레드 설정 - 켜지 않으면 검사하지 않음")
+    void platformThreads() {
+
+        contextRunner.run(context -> assertThat(context).hasNotFailed());
+    }
+}
@@ -0,0 +1,48 @@
+-- Flyway 도입 전 ddl-auto=update 가 만든 스키마. (comment_count, 목록 인덱스, api_key unique 가 없음)
+create table member
+(
+    id            bigint generated by default as identity,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    api_key       varchar(100),
+    nickname      varchar(100),
+    password      varchar(100),
+    username      varchar(100),
+    primary key (id)
+);
+
+create table post
+(
+    id            bigint generated by default as identity,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    author_id     bigint,
+    content       varchar(255),
+    listed        boolean not null,
+    published     boolean not null,
+    title         varchar(255),
+    primary key (id)
+);
+
+create table comment
+(
+    id            bigint generated by default as identity,
+    created_date  timestamp(6),
+    modified_date timestamp(6),
+    author_id     bigint,
+    post_id       bigint,
+    content       varchar(255),
+    primary key (id)
+);
+
+alter table member add constraint UK_sb8bbouer5wak8vyiiy4pf2bx unique (username);
+alter table comment add constraint FKmrrrpi513ssu63i2783jyiv9m foreign key (author_id) references member;
+alter table comment add constraint FKs1slvnkuemjsq2kj4h3vhx7i1 foreign key (post_id) references post;
+alter table post add constraint FK12njtf8e0jmyb45lqfpt6ad89 foreign key (author_id) references member;
+
+insert into member (username, password, api_key, nickname) values ('user1', '1234', 'user1', '유저1');
+insert into post (author_id, title, content, published, listed) values (1, '제목1', '내용1', true, true);
+insert into post (author_id, title, content, published, listed) values (1, '제목2', '내용2', true, true);
+insert into comment (author_id, post_id, content) values (1, 1, '댓글1');
+insert into comment (author_id, post_id, content) values (1, 1, '댓글2');
+insert into comment (author_id, post_id, content) values (1, 2, '댓글3');